@@ -4,6 +4,7 @@ import android.os.Bundle;
 
 import com.badlogic.gdx.backends.android.AndroidApplication;
 import com.badlogic.gdx.backends.android.AndroidApplicationConfiguration;
+import com.rgs.swordsurvivor.Platform;
 import com.rgs.swordsurvivor.SwordSurvivorGame;
 
 /** Launches the Android application. */
@@ -13,6 +14,7 @@ public class AndroidLauncher extends AndroidApplication {
         super.onCreate(savedInstanceState);
         AndroidApplicationConfiguration configuration = new AndroidApplicationConfiguration();
         configuration.useImmersiveMode = true; // Recommended, but not required.
-        initialize(new SwordSurvivorGame(), configuration);
+        configuration.useGL30 = true; // GLES 3 where the device has it (ETC2 textures); GLES 2 otherwise
+        initialize(new SwordSurvivorGame(Platform.SINGLE_THREADED), configuration);
     }
 }
\ No newline at end of file
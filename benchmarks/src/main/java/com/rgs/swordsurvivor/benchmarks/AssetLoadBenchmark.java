@@ -0,0 +1,89 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+import com.rgs.swordsurvivor.assets.Assets;
+import com.rgs.swordsurvivor.lwjgl3.AssetPack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading every sprite atlas the way the game does (queued on {@link Assets}, decoded on the
+ * loader thread, uploaded on this one), from the loose files in assets/ against the mapped
+ * assets.pak, whose pages are already decoded. Each op opens its own source and Assets and
+ * disposes them. GL is stubbed out (see {@link NoopGl}), so uploads cost nothing here; mipmaps
+ * are left to the (stub) driver on both paths, as on a desktop GPU.
+ *
+ * - cold: one op per forked JVM, nothing warmed up, like the game's own startup (class loading,
+ *   interpreter, first touch of the file or mapping).
+ * - warm: the same op over and over in one JVM.
+ * Both read through the OS file cache; for a cold disk, drop it before running
+ * (Linux: {@code sync; echo 3 > /proc/sys/vm/drop_caches}). The pack comes from lwjgl3:packAssets
+ * (the jmh task builds it); paths can be set with -Dswordsurvivor.assets and -Dswordsurvivor.pack.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AssetLoadBenchmark {
+    private static final String[] ATLASES = { "sprites.atlas", "enemy3.atlas", "enemy4.atlas", "enemy5.atlas" };
+
+    @Param({"files", "pack"})
+    public String source;
+
+    private File assetsDir, packFile;
+
+    @Setup
+    public void setup() {
+        NoopGl.install();
+        assetsDir = new File(System.getProperty("swordsurvivor.assets", "../assets"));
+        packFile = new File(System.getProperty("swordsurvivor.pack", "../lwjgl3/build/pack/assets.pak"));
+        if (!assetsDir.isDirectory()) throw new IllegalStateException("No assets folder at " + assetsDir.getAbsolutePath());
+        if (!packFile.isFile()) throw new IllegalStateException("No pack at " + packFile.getAbsolutePath() + " (run lwjgl3:packAssets)");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public long cold() throws IOException {
+        return load();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public long warm() throws IOException {
+        return load();
+    }
+
+    private long load() throws IOException {
+        FileHandleResolver files = source.equals("pack") ? AssetPack.open(packFile) : new FileHandleResolver() {
+            @Override public FileHandle resolve(String fileName) { return new FileHandle(new File(assetsDir, fileName)); }
+        };
+        Assets assets = new Assets(files);
+        for (String atlas : ATLASES) assets.preload(atlas, TextureAtlas.class);
+        while (!assets.update(1000)) {}
+        for (String atlas : ATLASES) assets.atlas(atlas);
+        long bytes = assets.textureBytes();
+        assets.dispose();
+        return bytes;
+    }
+}
@@ -0,0 +1,86 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import com.rgs.swordsurvivor.combat.CombatUtils;
+import com.rgs.swordsurvivor.combat.SweptArc;
+import com.rgs.swordsurvivor.entities.EnemyStore;
+import com.rgs.swordsurvivor.entities.Player;
+import com.rgs.swordsurvivor.systems.SpatialGrid;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Sword-vs-N-enemies and contact checks, one sim step's worth per op. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatBenchmark {
+
+    @Param({"1", "20", "60"})
+    public int wave;
+
+    private final EnemyStore enemies = new EnemyStore();
+    private final SpatialGrid grid = new SpatialGrid();
+    private final SweptArc arc = new SweptArc();
+    private final IntArray hits = new IntArray();
+    private Player player;
+
+    @Setup
+    public void setup() {
+        player = Scenario.swingingPlayer();
+        Scenario.populate(enemies, wave, player);
+        buildGrid();
+    }
+
+    /** Per-enemy sector test, no broadphase. */
+    @Benchmark
+    public int swordBruteForce() {
+        int n = 0;
+        for (int i = 0; i < enemies.size; i++) {
+            if (CombatUtils.swordHitsEnemyThisFrame(player, enemies, i)) n++;
+        }
+        return n;
+    }
+
+    /** Precomputed arc, linear scan with the bounds reject. */
+    @Benchmark
+    public int swordSweptArcScan() {
+        return arc.set(player).overlapsAll(enemies.x, enemies.y, enemies.radius, enemies.size, hits);
+    }
+
+    /** What the sim does every step before querying. */
+    @Benchmark
+    public int gridBuild() {
+        buildGrid();
+        return grid.size();
+    }
+
+    @Benchmark
+    public int gridSwordQuery() {
+        grid.querySweptArc(arc.set(player), hits);
+        return hits.size;
+    }
+
+    @Benchmark
+    public int gridContactQuery() {
+        grid.queryCircle(player.pos.x, player.pos.y, player.radius, hits);
+        return hits.size;
+    }
+
+    private void buildGrid() {
+        grid.begin();
+        for (int i = 0; i < enemies.size; i++) grid.add(enemies.x[i], enemies.y[i], enemies.radius[i]);
+        grid.build();
+    }
+}
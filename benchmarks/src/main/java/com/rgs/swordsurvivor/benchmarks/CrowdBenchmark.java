@@ -0,0 +1,88 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.entities.EnemyStore;
+import com.rgs.swordsurvivor.entities.EnemyType;
+import com.rgs.swordsurvivor.jobs.ForkJoinJobSystem;
+import com.rgs.swordsurvivor.jobs.JobSystem;
+import com.rgs.swordsurvivor.systems.FlowField;
+import com.rgs.swordsurvivor.systems.Separation;
+import com.rgs.swordsurvivor.systems.SpatialGrid;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+
+/**
+ * Horde movement as the sim runs it: flow-field move, grid build, separation, grid rebuild.
+ * The crowd is pre-run for a few seconds so it has already piled up around the player;
+ * the 5k case is the 60 Hz target (16.6 ms per op is the ceiling, the rest of the step needs room).
+ * threads = 1 is the serial path GWT and Android run; more uses the desktop fork-join pool.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrowdBenchmark {
+
+    @Param({"500", "5000"})
+    public int enemies;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private final EnemyStore store = new EnemyStore();
+    private final FlowField field = new FlowField();
+    private final SpatialGrid grid = new SpatialGrid();
+    private final Separation separation = new Separation();
+    private JobSystem jobs;
+    private final JobSystem.Job moveJob = new JobSystem.Job() {
+        @Override public void run(int from, int to) { store.update(Scenario.DT, field, px, from, to); }
+    };
+    private final float px = SwordSurvivorGame.WORLD_WIDTH / 2f, py = SwordSurvivorGame.WORLD_HEIGHT / 2f;
+
+    @Setup
+    public void setup() {
+        jobs = threads == 1 ? JobSystem.SERIAL : new ForkJoinJobSystem(threads);
+        Random rng = new Random(Scenario.SEED);
+        store.clear();
+        for (int i = 0; i < enemies; i++) {
+            // Mostly NORMALs with the occasional big body, scattered over the arena
+            EnemyType t = i % 40 == 0 ? EnemyType.ALL[1 + rng.nextInt(EnemyType.ALL.length - 1)] : EnemyType.NORMAL;
+            store.add(t, rng.nextFloat() * SwordSurvivorGame.WORLD_WIDTH, rng.nextFloat() * SwordSurvivorGame.WORLD_HEIGHT);
+        }
+        field.setGoal(px, py);
+        for (int i = 0; i < 300; i++) step();
+    }
+
+    @Benchmark
+    public int step() {
+        if (jobs.parallelism() > 1) field.aimAll();
+        jobs.forEach(store.size, 1024, moveJob);
+        build();
+        if (separation.resolve(store, grid, jobs)) build();
+        return separation.getLastPairs();
+    }
+
+    @TearDown
+    public void tearDown() {
+        jobs.dispose();
+    }
+
+    private void build() {
+        grid.begin();
+        for (int i = 0; i < store.size; i++) grid.add(store.x[i], store.y[i], store.radius[i]);
+        grid.build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.rgs.swordsurvivor.entities.EnemyStore;
+import com.rgs.swordsurvivor.entities.Player;
+import com.rgs.swordsurvivor.systems.FlowField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Enemy flow-field move/face/hurt-flash for the whole store, one sim step per op.
+ * Enemies close in on the player during an iteration; the per-enemy cost doesn't depend on distance.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyBenchmark {
+
+    @Param({"1", "20", "60"})
+    public int wave;
+
+    private final EnemyStore enemies = new EnemyStore();
+    private final FlowField field = new FlowField();
+    private Player player;
+    private int tick;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        player = Scenario.player();
+        Scenario.populate(enemies, wave, player);
+        field.setGoal(player.pos.x, player.pos.y);
+    }
+
+    /** The player nudges every step, so occupied cells get re-aimed like in play. */
+    @Benchmark
+    public EnemyStore update() {
+        field.setGoal(player.pos.x + (tick++ & 1), player.pos.y);
+        enemies.update(Scenario.DT, field, player.pos.x);
+        return enemies;
+    }
+
+    /** Start-of-step snapshot for render interpolation. */
+    @Benchmark
+    public EnemyStore savePositions() {
+        enemies.savePositions();
+        return enemies;
+    }
+}
@@ -0,0 +1,70 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.systems.FlowField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Flow field upkeep per sim step: the worst case for lazy re-aiming (every cell occupied) and
+ * the rebuild when the player crosses into another cell, on open ground and with a wall in the way.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowFieldBenchmark {
+
+    private final FlowField open = new FlowField();
+    private final FlowField walled = new FlowField();
+    private final float cx = SwordSurvivorGame.WORLD_WIDTH / 2f, cy = SwordSurvivorGame.WORLD_HEIGHT / 2f;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        // A vertical wall with a gap, a few cells left of the player
+        final int wallX = open.getCols() / 2 - 4, gapY = open.getRows() / 4;
+        walled.setCostSource(new FlowField.CostSource() {
+            @Override public int cost(int cellX, int cellY) {
+                return cellX == wallX && cellY != gapY ? BLOCKED : 1;
+            }
+        });
+        open.setGoal(cx, cy);
+        walled.setGoal(cx, cy);
+    }
+
+    /** Goal moves a pixel within its cell, then every cell is sampled (all re-aimed). */
+    @Benchmark
+    public float openGoalMoveSampleAll() {
+        open.setGoal(cx + (tick++ & 7), cy);
+        float sum = 0f;
+        float size = open.getCellSize();
+        for (int y = 0; y < open.getRows(); y++) {
+            for (int x = 0; x < open.getCols(); x++) sum += open.dirX(open.sample((x + 0.5f) * size, (y + 0.5f) * size));
+        }
+        return sum;
+    }
+
+    /** Goal hops between two cells every op: rebuild (trivial while open) + re-aim. */
+    @Benchmark
+    public float openCellChange() {
+        open.setGoal(cx + ((tick++ & 1) == 0 ? 0f : open.getCellSize()), cy);
+        return open.dirX(0);
+    }
+
+    /** Goal hops between two cells with a wall in the world: Dijkstra + line of sight + re-aim. */
+    @Benchmark
+    public float walledCellChange() {
+        walled.setGoal(cx + ((tick++ & 1) == 0 ? 0f : walled.getCellSize()), cy);
+        return walled.dirX(0);
+    }
+}
@@ -0,0 +1,92 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import com.rgs.swordsurvivor.ui.HudText;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The HUD stats line, one frame per op: the old String concatenation drawn through
+ * BitmapFont.draw(CharSequence) against a {@link HudText} whose values didn't change (the usual
+ * frame) and one whose kill count changes every frame (a relayout each time).
+ * GL is stubbed out (see {@link NoopGl}); each op is one begin/flush/end, and the stub's boxed GL
+ * call arguments (about 370 B/op of gc.alloc.rate.norm) are harness overhead common to all three.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HudTextBenchmark {
+    private SpriteBatch batch;
+    private Texture texture;
+    private BitmapFont font;
+    private final HudText stats = new HudText();
+    private int hp = 14, level = 23, xp = 87, xpToNext = 240, kills = 1234, wave = 17;
+
+    @Setup
+    public void setup() {
+        NoopGl.install();
+        batch = new SpriteBatch();
+        texture = NoopGl.texture(256, 128);
+        // The default font's metrics from gdx's jar; its page is a stub texture
+        FileHandle fnt = new FileHandle("com/badlogic/gdx/utils/lsans-15.fnt", Files.FileType.Classpath) {};
+        font = new BitmapFont(new BitmapFont.BitmapFontData(fnt, false), new TextureRegion(texture), true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        batch.dispose();
+        texture.dispose();
+    }
+
+    /** The previous path: a new String every frame, laid out again on every draw. */
+    @Benchmark
+    public void concatenated() {
+        String s = "HP: " + hp +
+            "  |  Lvl: " + level +
+            " (XP " + xp + "/" + xpToNext + ")" +
+            "  |  Kills: " + kills +
+            "  |  Wave: " + wave;
+        batch.begin();
+        font.draw(batch, s, 10f, 590f);
+        batch.end();
+    }
+
+    @Benchmark
+    public void cachedUnchanged() {
+        drawCached();
+    }
+
+    @Benchmark
+    public void cachedChanging() {
+        kills++;
+        drawCached();
+    }
+
+    private void drawCached() {
+        stats.begin().append("HP: ").append(hp)
+            .append("  |  Lvl: ").append(level)
+            .append(" (XP ").append(xp).append('/').append(xpToNext).append(')')
+            .append("  |  Kills: ").append(kills)
+            .append("  |  Wave: ").append(wave);
+        batch.begin();
+        stats.draw(batch, font, 10f, 590f);
+        batch.end();
+    }
+}
@@ -0,0 +1,91 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * Installs a GL20 whose calls do nothing (shaders always "compile"), a fixed-size Graphics and an
+ * Application to key managed GL resources by,
+ * so SpriteBatch and ShapeRenderer can run outside a GL context. What's left to measure is their
+ * CPU side: vertex generation and buffer copies, which is what the render benchmarks compare.
+ */
+final class NoopGl {
+    private static boolean installed;
+
+    private NoopGl() {}
+
+    static synchronized void install() {
+        if (installed) return;
+        GdxNativesLoader.load(); // BufferUtils copies vertices natively
+        GL20 gl = (GL20)Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] { GL20.class }, glHandler());
+        Gdx.gl = Gdx.gl20 = gl;
+        Gdx.graphics = (Graphics)Proxy.newProxyInstance(Graphics.class.getClassLoader(), new Class<?>[] { Graphics.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("getWidth") || method.getName().equals("getBackBufferWidth")) return 800;
+                if (method.getName().equals("getHeight") || method.getName().equals("getBackBufferHeight")) return 600;
+                // Mipmaps by glGenerateMipmap, as desktop drivers do, not libGDX's CPU fallback
+                if (method.getName().equals("supportsExtension")) return "GL_ARB_framebuffer_object".equals(args[0]);
+                return defaultValue(method.getReturnType());
+            });
+        Gdx.app = (Application)Proxy.newProxyInstance(Application.class.getClassLoader(), new Class<?>[] { Application.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("getType")) return Application.ApplicationType.HeadlessDesktop;
+                if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+                if (method.getName().equals("equals")) return proxy == args[0];
+                return defaultValue(method.getReturnType());
+            });
+        installed = true;
+    }
+
+    /** A texture with no pixels behind it, just a size for region UVs. */
+    static Texture texture(int width, int height) {
+        return new Texture(new TextureData() {
+            @Override public TextureDataType getType() { return TextureDataType.Custom; }
+            @Override public boolean isPrepared() { return true; }
+            @Override public void prepare() {}
+            @Override public Pixmap consumePixmap() { return null; }
+            @Override public boolean disposePixmap() { return false; }
+            @Override public void consumeCustomData(int target) {}
+            @Override public int getWidth() { return width; }
+            @Override public int getHeight() { return height; }
+            @Override public Pixmap.Format getFormat() { return Pixmap.Format.RGBA8888; }
+            @Override public boolean useMipMaps() { return false; }
+            @Override public boolean isManaged() { return false; }
+        });
+    }
+
+    private static InvocationHandler glHandler() {
+        return (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+                int pname = (Integer)args[1];
+                ((IntBuffer)args[2]).put(0,
+                    pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS ? 1 : 0);
+                return null;
+            }
+            // Object names (buffers, shaders, programs, textures) must be non-zero to count as created
+            if (name.startsWith("glGen") || name.startsWith("glCreate")) return 1;
+            if (method.getReturnType() == String.class) return "";
+            return defaultValue(method.getReturnType());
+        };
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        if (type == double.class) return 0d;
+        return null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+
+import com.rgs.swordsurvivor.entities.Orb;
+import com.rgs.swordsurvivor.entities.Player;
+import com.rgs.swordsurvivor.systems.EntityPools;
+import com.rgs.swordsurvivor.systems.OrbMerger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Orb magnet + pickup check over every orb on the ground, one sim step per op.
+ * Nothing is collected, so the orb count stays fixed; orbs inside the magnet range pile up on the player.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrbBenchmark {
+
+    @Param({"1", "20", "60"})
+    public int wave;
+
+    private Orb[] orbs;
+    private Player player;
+    private final Array<Orb> floor = new Array<>(false, 64);
+    private OrbMerger merger;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        player = Scenario.player();
+        orbs = Scenario.scatterOrbs(wave, player);
+
+        floor.clear();
+        floor.addAll(Scenario.scatterOrbs(wave, player));
+        merger = new OrbMerger(new EntityPools());
+    }
+
+    @Benchmark
+    public int magnetAndPickup() {
+        int n = 0;
+        for (Orb o : orbs) {
+            o.update(Scenario.DT, player.pos, player.pickupRange);
+            if (o.canPickup(player.pos, player.pickupRange)) n++;
+        }
+        return n;
+    }
+
+    /** One step of coalescing; after the first few passes this is the steady-state scan. */
+    @Benchmark
+    public int mergerUpdate() {
+        merger.update(floor);
+        return floor.size;
+    }
+}
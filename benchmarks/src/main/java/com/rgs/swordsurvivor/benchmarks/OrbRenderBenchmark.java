@@ -0,0 +1,101 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.entities.Orb;
+import com.rgs.swordsurvivor.entities.Player;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Drawing every orb on the ground, one frame per op: the old ShapeRenderer circles against the
+ * glow sprite in the world SpriteBatch, with and without view culling. GL itself is stubbed out
+ * (see {@link NoopGl}), so this is the CPU cost per frame. The stub boxes GL call arguments, so
+ * roughly 1 KB/op of gc.alloc.rate.norm is harness overhead, not the renderer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrbRenderBenchmark {
+
+    @Param({"1", "20", "60"})
+    public int wave;
+
+    private Orb[] orbs;
+    private ShapeRenderer shapes;
+    private SpriteBatch batch;
+    private Texture texture;
+    private TextureRegion region;
+    private float viewL, viewB, viewR, viewT;
+
+    @Setup
+    public void setup() {
+        NoopGl.install();
+        shapes = new ShapeRenderer();
+        batch = new SpriteBatch();
+        texture = NoopGl.texture(2048, 512);
+        region = new TextureRegion(texture, 1, 1, 32, 32);
+
+        Player p = Scenario.player();
+        orbs = Scenario.scatterOrbs(wave, p);
+        viewL = p.pos.x - SwordSurvivorGame.VIEW_WIDTH / 2f;
+        viewB = p.pos.y - SwordSurvivorGame.VIEW_HEIGHT / 2f;
+        viewR = viewL + SwordSurvivorGame.VIEW_WIDTH;
+        viewT = viewB + SwordSurvivorGame.VIEW_HEIGHT;
+    }
+
+    @TearDown
+    public void tearDown() {
+        shapes.dispose();
+        batch.dispose();
+        texture.dispose();
+    }
+
+    /** The previous path: a filled triangle fan per orb. */
+    @Benchmark
+    public void shapeCircles() {
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(Color.YELLOW);
+        for (Orb o : orbs) shapes.circle(o.pos.x, o.pos.y, o.radius);
+        shapes.end();
+    }
+
+    @Benchmark
+    public void batchSprites() {
+        batch.begin();
+        for (Orb o : orbs) {
+            float half = o.radius * 2f;
+            batch.draw(region, o.pos.x - half, o.pos.y - half, half * 2f, half * 2f);
+        }
+        batch.end();
+    }
+
+    /** What GameScreen does. */
+    @Benchmark
+    public void batchSpritesCulled() {
+        batch.begin();
+        for (Orb o : orbs) {
+            float x = o.pos.x, y = o.pos.y, half = o.radius * 2f;
+            if (x + half < viewL || x - half > viewR || y + half < viewB || y - half > viewT) continue;
+            batch.draw(region, x - half, y - half, half * 2f, half * 2f);
+        }
+        batch.end();
+    }
+}
@@ -0,0 +1,76 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.rgs.swordsurvivor.jobs.ForkJoinJobSystem;
+import com.rgs.swordsurvivor.jobs.JobSystem;
+import com.rgs.swordsurvivor.replay.ReplayReader;
+import com.rgs.swordsurvivor.sim.InputCommand;
+import com.rgs.swordsurvivor.sim.Simulation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Plays a recorded run (replays/last.ssr) headless, as fast as it goes, and reports the step time
+ * distribution with the ticks of the slowest steps, so a spike a player hit can be found and
+ * profiled again and again.
+ *
+ *   ./gradlew benchmarks:replay -Preplay=/path/to/last.ssr [-Preplay.threads=4]
+ */
+public final class ReplayRunner {
+    private static final int WORST = 5;
+
+    private ReplayRunner() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: ReplayRunner <file.ssr> [threads]");
+            System.exit(2);
+        }
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        ReplayReader replay = new ReplayReader(Files.readAllBytes(Paths.get(args[0])));
+        JobSystem jobs = threads > 1 ? new ForkJoinJobSystem(threads) : JobSystem.SERIAL;
+
+        Simulation sim = new Simulation();
+        sim.setJobs(jobs);
+        InputCommand input = new InputCommand();
+        float dt = replay.getStep();
+
+        long[] nanos = new long[1 << 16];
+        int steps = 0;
+        replay.start(sim);
+        long start = System.nanoTime();
+        while (!sim.isGameOver() && replay.next(sim, input)) {
+            long t0 = System.nanoTime();
+            sim.step(input, dt);
+            if (steps == nanos.length) nanos = Arrays.copyOf(nanos, steps * 2);
+            nanos[steps++] = System.nanoTime() - t0;
+        }
+        long wall = System.nanoTime() - start;
+        jobs.dispose();
+
+        System.out.printf("seed %016x  steps %d  kills %d  wave %d  level %d  %s%n", replay.getSeed(), steps,
+            sim.getKills(), sim.getWave(), sim.getPlayer().level, sim.isGameOver() ? "died" : "ended alive");
+        if (steps == 0) return;
+        double simSeconds = steps * (double)dt;
+        System.out.printf("wall %.1f ms  (%.0fx real time)%n", wall / 1e6, simSeconds / (wall / 1e9));
+
+        long[] sorted = Arrays.copyOf(nanos, steps);
+        Arrays.sort(sorted);
+        System.out.printf("step us: mean %.1f  p50 %.1f  p99 %.1f  max %.1f%n", wall / 1e3 / steps,
+            sorted[steps / 2] / 1e3, sorted[Math.min(steps - 1, steps * 99 / 100)] / 1e3, sorted[steps - 1] / 1e3);
+
+        System.out.print("slowest ticks:");
+        boolean[] taken = new boolean[steps];
+        for (int k = 0; k < Math.min(WORST, steps); k++) {
+            int worst = -1;
+            for (int i = 0; i < steps; i++) {
+                if (!taken[i] && (worst < 0 || nanos[i] > nanos[worst])) worst = i;
+            }
+            taken[worst] = true;
+            System.out.printf("  #%d (%.0f us)", worst + 1, nanos[worst] / 1e3);
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,90 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.entities.EnemyStore;
+import com.rgs.swordsurvivor.entities.Orb;
+import com.rgs.swordsurvivor.entities.Player;
+import com.rgs.swordsurvivor.systems.Spawner;
+import com.rgs.swordsurvivor.util.Rng;
+
+import java.util.Random;
+
+/**
+ * Mid-run snapshots shared by the benchmarks: the player in the middle of the world, and the
+ * enemies/orbs a run typically carries at a given wave. Everything is seeded so runs compare.
+ */
+final class Scenario {
+    static final float DT = 1f / SwordSurvivorGame.SIM_HZ;
+    static final long SEED = 0x5EED5EEDL;
+
+    private Scenario() {}
+
+    /** Enemies alive at once around the given wave (roughly what a surviving player has on screen). */
+    static int enemiesAt(int wave) {
+        if (wave <= 1) return 15;
+        if (wave <= 20) return 150;
+        return 500;
+    }
+
+    /** Uncollected orbs lying around at the given wave. */
+    static int orbsAt(int wave) {
+        return enemiesAt(wave) * 2;
+    }
+
+    static Player player() {
+        return new Player(new Vector2(SwordSurvivorGame.WORLD_WIDTH / 2f, SwordSurvivorGame.WORLD_HEIGHT / 2f));
+    }
+
+    /** Player mid-swing: one step into a swing aimed to the right. */
+    static Player swingingPlayer() {
+        Player p = player();
+        Vector2 aim = new Vector2(p.pos).add(100f, 0f);
+        p.update(DT, aim); // starts the swing
+        p.update(DT, aim); // first sweep
+        return p;
+    }
+
+    static Spawner spawnerAt(int wave) {
+        Spawner spawner = new Spawner(new Rng(SEED));
+        spawner.setWave(wave);
+        return spawner;
+    }
+
+    /**
+     * Fill the store with the wave's type mix and HP scaling (via the real spawner), then scatter
+     * them in a ring around the player so some are inside sword reach and most are not.
+     */
+    static void populate(EnemyStore enemies, int wave, Player p) {
+        Random rng = new Random(SEED);
+        Spawner spawner = spawnerAt(wave);
+        enemies.clear();
+        for (int n = enemiesAt(wave); n > 0; n--) {
+            int i = spawner.spawnEnemyAroundView(enemies, p.pos.x, p.pos.y,
+                SwordSurvivorGame.VIEW_WIDTH, SwordSurvivorGame.VIEW_HEIGHT);
+            placeInRing(rng, p.pos, 40f, 480f, enemies.x, enemies.y, i);
+            enemies.prevX[i] = enemies.x[i];
+            enemies.prevY[i] = enemies.y[i];
+        }
+    }
+
+    /** Orbs left behind all over the arena; a few near the player, most of them off-screen. */
+    static Orb[] scatterOrbs(int wave, Player p) {
+        Random rng = new Random(SEED);
+        Orb[] orbs = new Orb[orbsAt(wave)];
+        for (int i = 0; i < orbs.length; i++) {
+            orbs[i] = new Orb().init(rng.nextFloat() * SwordSurvivorGame.WORLD_WIDTH,
+                rng.nextFloat() * SwordSurvivorGame.WORLD_HEIGHT, 1 + wave / 2);
+        }
+        return orbs;
+    }
+
+    private static void placeInRing(Random rng, Vector2 center, float minR, float maxR, float[] xs, float[] ys, int i) {
+        float a = rng.nextFloat() * MathUtils.PI2;
+        float d = minR + rng.nextFloat() * (maxR - minR);
+        xs[i] = center.x + MathUtils.cos(a) * d;
+        ys[i] = center.y + MathUtils.sin(a) * d;
+    }
+}
@@ -0,0 +1,51 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import com.rgs.swordsurvivor.sim.InputCommand;
+import com.rgs.swordsurvivor.sim.Simulation;
+import com.rgs.swordsurvivor.systems.EntityPools;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A full gameplay step from a fresh run: the player circles the arena swinging at everything,
+ * always takes the first boon, and the run restarts on death.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationBenchmark {
+
+    private Simulation sim;
+    private final InputCommand input = new InputCommand();
+
+    @Setup
+    public void setup() {
+        sim = new Simulation(new EntityPools(), Scenario.SEED);
+    }
+
+    @Benchmark
+    public long step() {
+        if (sim.isGameOver()) sim.reset(Scenario.SEED);
+        if (sim.isLevelUpPending()) sim.chooseBoon(0);
+
+        float t = sim.getTicks() * Scenario.DT;
+        input.moveX = MathUtils.cos(t * 0.5f);
+        input.moveY = MathUtils.sin(t * 0.5f);
+        input.aimX = sim.getPlayer().pos.x + MathUtils.cos(t * 3f) * 100f;
+        input.aimY = sim.getPlayer().pos.y + MathUtils.sin(t * 3f) * 100f;
+        sim.step(input, Scenario.DT);
+        return sim.getTicks();
+    }
+}
@@ -0,0 +1,65 @@
+package com.rgs.swordsurvivor.benchmarks;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.entities.EnemyStore;
+import com.rgs.swordsurvivor.systems.Spawner;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Wave clock + spawning. The spawner is pinned to its wave (it would otherwise advance every
+ * ~20s of sim time) and the store is emptied once it holds the wave's usual population.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnerBenchmark {
+
+    @Param({"1", "20", "60"})
+    public int wave;
+
+    private final EnemyStore enemies = new EnemyStore();
+    private Spawner spawner;
+    private int population;
+    private final float cx = SwordSurvivorGame.WORLD_WIDTH / 2f, cy = SwordSurvivorGame.WORLD_HEIGHT / 2f;
+
+    @Setup
+    public void setup() {
+        spawner = Scenario.spawnerAt(wave);
+        population = Scenario.enemiesAt(wave);
+        enemies.clear();
+    }
+
+    /** One sim step of the spawn loop: tick, then drain whatever spawns came due. */
+    @Benchmark
+    public int tick() {
+        if (spawner.getWave() != wave) spawner.setWave(wave);
+        spawner.update(Scenario.DT);
+        int n = 0;
+        while (spawner.shouldSpawn()) {
+            spawner.spawnEnemyAroundView(enemies, cx, cy, SwordSurvivorGame.VIEW_WIDTH, SwordSurvivorGame.VIEW_HEIGHT);
+            n++;
+        }
+        if (enemies.size >= population) enemies.clear();
+        return n;
+    }
+
+    /** A single spawn: edge pick, type roll, wave scaling. */
+    @Benchmark
+    public int spawnEnemyAroundView() {
+        int i = spawner.spawnEnemyAroundView(enemies, cx, cy, SwordSurvivorGame.VIEW_WIDTH, SwordSurvivorGame.VIEW_HEIGHT);
+        if (enemies.size >= population) enemies.clear();
+        return i;
+    }
+}
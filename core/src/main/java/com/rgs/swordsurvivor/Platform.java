@@ -0,0 +1,46 @@
+package com.rgs.swordsurvivor;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+
+import com.rgs.swordsurvivor.jobs.JobSystem;
+
+/**
+ * What the host can do, decided by each launcher (core can't reference thread classes: GWT
+ * compiles it too).
+ */
+public class Platform {
+    /** Garbage collector counters, where the runtime exposes them. */
+    public interface GcStats {
+        /** Collections since startup, all collectors. */
+        long collections();
+        /** Milliseconds spent collecting since startup (approximate). */
+        long collectionMillis();
+    }
+
+    /** Everything on the render thread: GWT has no threads, Android keeps its cores for the GPU driver and thermals. */
+    public static final Platform SINGLE_THREADED = new Platform(JobSystem.SERIAL);
+
+    /** Parallel loops for the simulation ({@link JobSystem#SERIAL} when single-threaded). */
+    public final JobSystem jobs;
+    /** True when {@link #jobs} actually runs on more than one thread. */
+    public final boolean multithreaded;
+    /** Null where unavailable (GWT, Android). */
+    public final GcStats gc;
+    /** Where the game's asset files are read from (the desktop's mapped pack); null = internal storage. */
+    public final FileHandleResolver assetFiles;
+
+    public Platform(JobSystem jobs) {
+        this(jobs, null);
+    }
+
+    public Platform(JobSystem jobs, GcStats gc) {
+        this(jobs, gc, null);
+    }
+
+    public Platform(JobSystem jobs, GcStats gc, FileHandleResolver assetFiles) {
+        this.jobs = jobs != null ? jobs : JobSystem.SERIAL;
+        this.multithreaded = this.jobs.parallelism() > 1;
+        this.gc = gc;
+        this.assetFiles = assetFiles;
+    }
+}
@@ -1,13 +1,24 @@
 package com.rgs.swordsurvivor;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import com.rgs.swordsurvivor.assets.Assets;
+import com.rgs.swordsurvivor.metrics.Metrics;
+import com.rgs.swordsurvivor.metrics.MetricsExporter;
+import com.rgs.swordsurvivor.replay.ReplayReader;
+import com.rgs.swordsurvivor.screens.GameScreen;
+import com.rgs.swordsurvivor.screens.LoadingScreen;
 import com.rgs.swordsurvivor.screens.MenuScreen;
 
 public class SwordSurvivorGame extends Game {
@@ -16,10 +27,24 @@ public class SwordSurvivorGame extends Game {
     public static final int WORLD_WIDTH = 1600;
     public static final int WORLD_HEIGHT = 1200;
 
+    // Gameplay runs at a fixed rate, independent of display refresh
+    public static final float SIM_HZ = 60f;
+    public static final int MAX_SIM_SUBSTEPS = 5;
+
+    // Host capabilities (threads, where assets are read from), chosen by the launcher
+    public final Platform platform;
+
     public SpriteBatch batch;
+    public ShapeRenderer shapes;
     public BitmapFont font;
 
-    // --- Audio ---
+    // Textures shared by the screens: loaded once, kept across menu <-> run round-trips
+    public final Assets assets;
+
+    // The screen setScreen() replaced, disposed at the start of the next frame
+    private Screen retired;
+
+    // --- Audio (null until the loading screen is done) ---
     public Music musicMenu;     // music1.mp3
     public Music musicGame;     // music2.mp3
     public Sound sfxPlayerHit;  // hit1.mp3
@@ -33,32 +58,146 @@ public class SwordSurvivorGame extends Game {
     // High score (persisted)
     private int highscoreKills = 0;
 
+    // Replay to open instead of the menu (desktop --replay)
+    private String startupReplay;
+    private int startupReplaySpeed = 1;
+
+    // JSON-lines metrics file for soak runs (desktop --metrics), null = off
+    private String metricsFile;
+    private boolean metricsFileStarted; // truncated by this session's first exporter, appended to after
+
+    // Runs are played by BotPlayer instead of the keyboard (desktop --bot)
+    private boolean botPlaying;
+
+    // Startup timing: create() -> loading done -> first frame of the first real screen
+    private long createdAt, loadedAt;
+    private boolean startupFramePending;
+
+    public SwordSurvivorGame(Platform platform) {
+        this.platform = platform != null ? platform : Platform.SINGLE_THREADED;
+        this.assets = new Assets(this.platform.assetFiles);
+    }
+
+    /** Start straight into playback of the recording at this absolute path (call before create). */
+    public void setStartupReplay(String absolutePath, int speed) {
+        this.startupReplay = absolutePath;
+        this.startupReplaySpeed = speed;
+    }
+
+    /** Export gameplay/render metrics to this absolute path while a game screen is up. */
+    public void setMetricsFile(String absolutePath) {
+        this.metricsFile = absolutePath;
+    }
+
+    /**
+     * An exporter of this registry to the metrics file, or null without one. The session's first
+     * truncates the file and later ones (each new game screen) append to it, so no run is lost.
+     */
+    public MetricsExporter openMetricsExporter(Metrics metrics) {
+        if (metricsFile == null) return null;
+        MetricsExporter exporter = new MetricsExporter(metrics, Gdx.files.absolute(metricsFile), metricsFileStarted);
+        metricsFileStarted = true;
+        return exporter;
+    }
+
+    /** Let {@link com.rgs.swordsurvivor.sim.BotPlayer} play new runs (watching it, soak tests). */
+    public void setBotPlaying(boolean botPlaying) {
+        this.botPlaying = botPlaying;
+    }
+
+    public boolean isBotPlaying() { return botPlaying; }
+
     @Override
     public void create() {
+        createdAt = TimeUtils.nanoTime();
         batch = new SpriteBatch();
+        shapes = new ShapeRenderer();
         font = new BitmapFont();
         font.getRegion().getTexture().setFilter(
             com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest,
             com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest);
 
-        // Load audio
-        musicMenu = Gdx.audio.newMusic(Gdx.files.internal("music1.mp3"));
-        musicGame = Gdx.audio.newMusic(Gdx.files.internal("music2.mp3"));
-        musicMenu.setLooping(true);
-        musicGame.setLooping(true);
-
-        sfxPlayerHit = Gdx.audio.newSound(Gdx.files.internal("hit1.mp3"));
-        sfxEnemyHit  = Gdx.audio.newSound(Gdx.files.internal("hit2.mp3"));
-        sfxPickup    = Gdx.audio.newSound(Gdx.files.internal("pickup.mp3"));
-        sfxLevel     = Gdx.audio.newSound(Gdx.files.internal("level.mp3"));
-
         // Load persisted settings
         Preferences prefs = Gdx.app.getPreferences("sword_survivor_settings");
         muted = prefs.getBoolean("muted", false);
         highscoreKills = prefs.getInteger("highscore_kills", 0); // <-- load high score
+
+        // GLES 3 Android devices take the ETC2 sprite pages built by android:compressTextures, if the APK has them
+        if (Gdx.app.getType() == Application.ApplicationType.Android && Gdx.graphics.isGL30Available()) {
+            assets.setAtlasVariant("etc2");
+        }
+
+        // Audio and sprites load in the background (decoded off the render thread) behind a progress bar
+        assets.preload("music1.mp3", Music.class);
+        assets.preload("music2.mp3", Music.class);
+        assets.preload("hit1.mp3", Sound.class);
+        assets.preload("hit2.mp3", Sound.class);
+        assets.preload("pickup.mp3", Sound.class);
+        assets.preload("level.mp3", Sound.class);
+        assets.preload("sprites.atlas", TextureAtlas.class); // late-wave enemies stream in during a run
+        setScreen(new LoadingScreen(this));
+    }
+
+    /** Called by {@link LoadingScreen} once everything queued in create() is loaded. */
+    public void assetsLoaded() {
+        // Held for the whole session: given back with everything else in dispose()
+        musicMenu = assets.file("music1.mp3", Music.class);
+        musicGame = assets.file("music2.mp3", Music.class);
+        musicMenu.setLooping(true);
+        musicGame.setLooping(true);
+
+        sfxPlayerHit = assets.file("hit1.mp3", Sound.class);
+        sfxEnemyHit  = assets.file("hit2.mp3", Sound.class);
+        sfxPickup    = assets.file("pickup.mp3", Sound.class);
+        sfxLevel     = assets.file("level.mp3", Sound.class);
         updateMusicVolumes();
 
-        setScreen(new MenuScreen(this));
+        loadedAt = TimeUtils.nanoTime();
+        startupFramePending = true;
+        if (startupReplay != null) {
+            ReplayReader replay = new ReplayReader(Gdx.files.absolute(startupReplay).readBytes());
+            setScreen(new GameScreen(this, replay, startupReplaySpeed));
+        } else {
+            setScreen(new MenuScreen(this));
+        }
+    }
+
+    /**
+     * Screens are built by whoever switches to them, so they're created with the old one still up
+     * (assets move from one to the next without dropping to zero references). The old one is hidden
+     * now and disposed on the next frame: this is usually called from its own input handling or
+     * render(), which must not find its stage already disposed when the call returns.
+     */
+    @Override
+    public void setScreen(Screen next) {
+        Screen old = getScreen();
+        super.setScreen(next);
+        if (old == null || old == next) return;
+        if (retired != null) retired.dispose();
+        retired = old;
+    }
+
+    @Override
+    public void render() {
+        if (retired != null) {
+            retired.dispose();
+            retired = null;
+        }
+        boolean startupFrame = startupFramePending; // the first real screen draws its first frame now
+        super.render();
+        if (startupFrame) {
+            startupFramePending = false;
+            long now = TimeUtils.nanoTime();
+            Gdx.app.log("SwordSurvivor", "First interactive frame " + (now - createdAt) / 1000000L
+                + " ms after start (loading " + (loadedAt - createdAt) / 1000000L + " ms)");
+        }
+    }
+
+    /** In the background: give back GL memory no screen holds (it's reloaded if asked for again). */
+    @Override
+    public void pause() {
+        super.pause();
+        assets.trim();
     }
 
     public int getHighscoreKills() { return highscoreKills; }
@@ -97,15 +236,14 @@ public class SwordSurvivorGame extends Game {
 
     @Override
     public void dispose() {
-        super.dispose();
+        super.dispose(); // hides the current screen
+        if (getScreen() != null) getScreen().dispose();
+        if (retired != null) retired.dispose();
+        assets.dispose(); // music and sounds too
         batch.dispose();
+        shapes.dispose();
         font.dispose();
 
-        if (musicMenu != null) musicMenu.dispose();
-        if (musicGame != null) musicGame.dispose();
-        if (sfxPlayerHit != null) sfxPlayerHit.dispose();
-        if (sfxEnemyHit  != null) sfxEnemyHit.dispose();
-        if (sfxPickup    != null) sfxPickup.dispose();
-        if (sfxLevel     != null) sfxLevel.dispose();
+        platform.jobs.dispose();
     }
 }
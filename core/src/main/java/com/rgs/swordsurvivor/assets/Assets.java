@@ -0,0 +1,308 @@
+package com.rgs.swordsurvivor.assets;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * GL resources shared by every screen, owned by the game: loaded the first time someone asks for
+ * them by key, then handed out again, counted by who holds them.
+ *
+ * Releasing the last reference does not unload: the menu and a run go back and forth all the time,
+ * and the next screen wants the same atlas and widget textures. Unreferenced entries stay resident
+ * until {@link #trim()} (the app going to the background) or {@link #dispose()} (exit), so
+ * re-entering a screen costs no file reads and no uploads, and GL memory stays flat however many
+ * times it happens.
+ *
+ * Files go through an {@link AssetManager}: {@link #preload} queues them, the manager's loader
+ * thread reads and decodes them (PNG pages to pixmaps, MP3s), and {@link #update} finishes them on
+ * the render thread (texture uploads), a few milliseconds per frame behind the loading screen. A
+ * file asked for before it was preloaded is loaded there and then, blocking.
+ *
+ * Files are read through the resolver the platform gives (the desktop maps a prebuilt pack of
+ * them, pages already decoded: see {@link DecodedTextureLoader}), or from internal storage.
+ *
+ * Atlases are asked for by their default name; where the build made a variant for this device
+ * (see {@link #setAtlasVariant}) that file is loaded instead, with the same regions.
+ *
+ * Screens hold their assets through a {@link Scope} and close it in dispose(). Render thread only.
+ */
+public class Assets implements Disposable {
+    /** Builds an asset on a cache miss (on the render thread: it may touch GL). */
+    public interface Loader<T extends Disposable> {
+        T load();
+    }
+
+    private static final class Entry {
+        final Disposable asset;
+        final String file;   // AssetManager file name (unloaded there, not disposed here), or null
+        int refs;
+
+        Entry(Disposable asset, String file) {
+            this.asset = asset;
+            this.file = file;
+        }
+    }
+
+    private final AssetManager manager;
+    private String atlasVariant;   // null = the default pages
+    private final ObjectMap<String, String> resolved = new ObjectMap<>(); // path -> file (asks the file system once)
+
+    private final ObjectMap<String, Entry> byKey = new ObjectMap<>();
+    private final ObjectMap<Disposable, Entry> byAsset = new ObjectMap<>(); // Textures hash by identity
+    private int loads = 0;
+
+    /** Files from internal storage. */
+    public Assets() {
+        this(null);
+    }
+
+    /** @param files where file paths are looked up; null for internal storage */
+    public Assets(FileHandleResolver files) {
+        if (files == null) files = new InternalFileHandleResolver();
+        manager = new AssetManager(files);
+        manager.setLoader(Texture.class, new DecodedTextureLoader(files));
+    }
+
+    /** The asset under {@code key}, loaded on first use; one more reference to it. */
+    public <T extends Disposable> T acquire(String key, Loader<T> loader) {
+        return acquire(key, loader, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Disposable> T acquire(String key, Loader<T> loader, String file) {
+        Entry e = byKey.get(key);
+        if (e == null) {
+            T asset = loader.load();
+            if (asset == null) throw new GdxRuntimeException("Loader returned nothing for '" + key + "'");
+            e = new Entry(asset, file);
+            byKey.put(key, e);
+            byAsset.put(asset, e);
+            loads++;
+        }
+        e.refs++;
+        return (T)e.asset;
+    }
+
+    /** Give back one reference taken by {@link #acquire}; the asset stays cached. */
+    public void release(Disposable asset) {
+        Entry e = byAsset.get(asset);
+        if (e == null || e.refs == 0) throw new GdxRuntimeException("Released an asset that isn't held: " + asset);
+        e.refs--;
+    }
+
+    /**
+     * Load "name-{@code suffix}.atlas" in place of "name.atlas" wherever the build produced one
+     * (ETC2 pages for GLES 3 Android devices); atlases without that variant load as they are.
+     * Set before preloading.
+     */
+    public void setAtlasVariant(String suffix) {
+        this.atlasVariant = suffix;
+        resolved.clear();
+    }
+
+    /** Queue an asset file to load in the background (no-op if queued or loaded already). */
+    public void preload(String path, Class<? extends Disposable> type) {
+        String file = resolve(path);
+        if (!manager.contains(file)) manager.load(file, type); // loading it again would add a manager-side reference
+    }
+
+    /**
+     * Load queued files for up to {@code millis} on the render thread (the decoding itself runs on
+     * the loader thread meanwhile). @return true once everything queued is loaded
+     */
+    public boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    /**
+     * One step of loading, without waiting on the loader thread: for streaming in during play,
+     * where an upload may land on this frame but decoding never stalls it. @return true once
+     * everything queued is loaded
+     */
+    public boolean update() {
+        return manager.update();
+    }
+
+    /** Whether an asset file is loaded (preloaded and finished, or taken through {@link #file}). */
+    public boolean isLoaded(String path) {
+        return manager.isLoaded(resolve(path));
+    }
+
+    /** Share of the queued files loaded so far, 0..1. */
+    public float progress() {
+        return manager.getProgress();
+    }
+
+    /** An asset file: taken from the loader if preloaded, otherwise loaded now. */
+    public <T extends Disposable> T file(String path, final Class<T> type) {
+        final String file = resolve(path);
+        return acquire(path, new Loader<T>() {
+            @Override public T load() {
+                if (!manager.isLoaded(file, type)) {
+                    if (!manager.contains(file)) manager.load(file, type);
+                    manager.finishLoadingAsset(file);
+                }
+                return manager.get(file, type);
+            }
+        }, file);
+    }
+
+    /** The file actually loaded for {@code path} on this device. */
+    private String resolve(String path) {
+        if (atlasVariant == null || !path.endsWith(".atlas")) return path;
+        String file = resolved.get(path);
+        if (file == null) {
+            String variant = path.substring(0, path.length() - ".atlas".length()) + "-" + atlasVariant + ".atlas";
+            file = manager.getFileHandleResolver().resolve(variant).exists() ? variant : path;
+            resolved.put(path, file);
+        }
+        return file;
+    }
+
+    /** A texture atlas, by path. */
+    public TextureAtlas atlas(String path) {
+        return file(path, TextureAtlas.class);
+    }
+
+    /** A 1x1 texture of one color (panel and button backgrounds), shared by every widget using that color. */
+    public Texture solid(final float r, final float g, final float b, final float a) {
+        String key = "solid:" + Integer.toHexString(Color.rgba8888(r, g, b, a));
+        return acquire(key, new Loader<Texture>() {
+            @Override public Texture load() {
+                Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+                pm.setColor(r, g, b, a);
+                pm.fill();
+                Texture t = new Texture(pm);
+                pm.dispose();
+                return t;
+            }
+        });
+    }
+
+    /** Dispose every unreferenced asset. @return how many were disposed */
+    public int trim() {
+        int n = 0;
+        ObjectMap.Entries<String, Entry> it = byKey.entries();
+        while (it.hasNext()) {
+            Entry e = it.next().value;
+            if (e.refs > 0) continue;
+            it.remove();
+            byAsset.remove(e.asset);
+            if (e.file != null) manager.unload(e.file);
+            else e.asset.dispose();
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Unload one file now rather than at the next {@link #trim()}: if nobody holds it, or it was
+     * only queued (then the load is cancelled). Held files stay. @return whether it was dropped
+     */
+    public boolean evict(String path) {
+        Entry e = byKey.get(path);
+        if (e != null) {
+            if (e.refs > 0) return false;
+            byKey.remove(path);
+            byAsset.remove(e.asset);
+            if (e.file == null) {
+                e.asset.dispose();
+                return true;
+            }
+        }
+        String file = resolve(path);
+        if (!manager.contains(file)) return false;
+        manager.unload(file);
+        return true;
+    }
+
+    /** Assets loaded since startup (cache misses): stays put across screen round-trips. */
+    public int loads() { return loads; }
+
+    /** Assets currently in memory, held or not. */
+    public int resident() { return byKey.size; }
+
+    /** Approximate GPU bytes of the resident textures (4 bytes per texel, 1 if ETC2 compressed, plus mip chains). */
+    public long textureBytes() {
+        long bytes = 0;
+        for (Entry e : byKey.values()) {
+            if (e.asset instanceof Texture) {
+                bytes += texelBytes((Texture)e.asset);
+            } else if (e.asset instanceof TextureAtlas) {
+                for (Texture t : ((TextureAtlas)e.asset).getTextures()) bytes += texelBytes(t);
+            }
+        }
+        return bytes;
+    }
+
+    private static long texelBytes(Texture t) {
+        // Custom (not pixmap) data is a KTX page here, ETC2 at a byte per texel (the class isn't in
+        // GWT), unless it's decoded RGBA from the pack
+        TextureData data = t.getTextureData();
+        boolean compressed = data.getType() == TextureData.TextureDataType.Custom && !(data instanceof DecodedTextureLoader.Data);
+        long bytes = (compressed ? 1L : 4L) * t.getWidth() * t.getHeight();
+        return t.getMinFilter().isMipMap() ? bytes * 4 / 3 : bytes;
+    }
+
+    /** A holder's view of the cache that remembers what it took, so one call gives it all back. */
+    public Scope scope() {
+        return new Scope(this);
+    }
+
+    @Override
+    public void dispose() {
+        for (Entry e : byKey.values()) {
+            if (e.file == null) e.asset.dispose();
+        }
+        byKey.clear();
+        byAsset.clear();
+        manager.dispose(); // everything it loaded, held or not
+    }
+
+    /** The assets one screen (and its widgets) holds; {@link #close()} when the screen is disposed. */
+    public static class Scope {
+        private final Assets assets;
+        private final Array<Disposable> held = new Array<>();
+
+        Scope(Assets assets) {
+            this.assets = assets;
+        }
+
+        public <T extends Disposable> T acquire(String key, Loader<T> loader) {
+            return hold(assets.acquire(key, loader));
+        }
+
+        public <T extends Disposable> T file(String path, Class<T> type) {
+            return hold(assets.file(path, type));
+        }
+
+        public TextureAtlas atlas(String path) {
+            return hold(assets.atlas(path));
+        }
+
+        public Texture solid(float r, float g, float b, float a) {
+            return hold(assets.solid(r, g, b, a));
+        }
+
+        private <T extends Disposable> T hold(T asset) {
+            held.add(asset);
+            return asset;
+        }
+
+        /** Release everything acquired through this scope. */
+        public void close() {
+            for (int i = 0; i < held.size; i++) assets.release(held.get(i));
+            held.clear();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.rgs.swordsurvivor.assets;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A file handle whose image is already decoded: RGBA8888 texels, top row first, tightly packed
+ * (the layout of an RGBA8888 Pixmap). {@link DecodedTextureLoader} uploads them as they are
+ * instead of decoding the file. Implemented by the desktop's asset pack.
+ */
+public interface DecodedImage {
+    int getWidth();
+
+    int getHeight();
+
+    /** The texels; a view into wherever they live (not a copy), position 0, limit width * height * 4. */
+    ByteBuffer pixels();
+}
@@ -0,0 +1,71 @@
+package com.rgs.swordsurvivor.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * The AssetManager's texture loader: files that are a {@link DecodedImage} go to GL straight from
+ * its buffer (no decode, no Pixmap, no copy; mipmaps made by the driver), everything else loads
+ * like it always did.
+ */
+public class DecodedTextureLoader extends TextureLoader {
+    public DecodedTextureLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+        if (file instanceof DecodedImage) {
+            // Filters and wraps are applied from the original parameter in loadSync
+            TextureParameter decoded = new TextureParameter();
+            decoded.genMipMaps = parameter != null && parameter.genMipMaps;
+            decoded.texture = parameter != null ? parameter.texture : null;
+            decoded.textureData = new Data((DecodedImage)file, decoded.genMipMaps);
+            parameter = decoded;
+        }
+        super.loadAsync(manager, fileName, file, parameter);
+    }
+
+    /** RGBA8888 texels uploaded as they are. */
+    static final class Data implements TextureData {
+        private final DecodedImage image;
+        private final boolean mipmaps;
+
+        Data(DecodedImage image, boolean mipmaps) {
+            this.image = image;
+            this.mipmaps = mipmaps;
+        }
+
+        @Override public TextureDataType getType() { return TextureDataType.Custom; }
+        @Override public boolean isPrepared() { return true; }
+        @Override public void prepare() {}
+
+        @Override
+        public Pixmap consumePixmap() {
+            throw new GdxRuntimeException("Decoded image data is uploaded directly");
+        }
+
+        @Override public boolean disposePixmap() { return false; }
+
+        @Override
+        public void consumeCustomData(int target) {
+            Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+            Gdx.gl.glTexImage2D(target, 0, GL20.GL_RGBA, image.getWidth(), image.getHeight(), 0,
+                GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, image.pixels());
+            if (mipmaps) Gdx.gl.glGenerateMipmap(target);
+        }
+
+        @Override public int getWidth() { return image.getWidth(); }
+        @Override public int getHeight() { return image.getHeight(); }
+        @Override public Pixmap.Format getFormat() { return Pixmap.Format.RGBA8888; }
+        @Override public boolean useMipMaps() { return mipmaps; }
+        @Override public boolean isManaged() { return true; } // the texels stay where they are, ready to upload again
+    }
+}
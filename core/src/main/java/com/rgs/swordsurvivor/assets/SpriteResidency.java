@@ -0,0 +1,166 @@
+package com.rgs.swordsurvivor.assets;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import com.rgs.swordsurvivor.entities.EnemyStore;
+import com.rgs.swordsurvivor.entities.EnemyType;
+import com.rgs.swordsurvivor.systems.Spawner;
+
+/**
+ * Enemy sprites for one run, kept resident by wave.
+ *
+ * Types packed into the base atlas (the ones a run meets in its first waves) are always there.
+ * Every other type has an atlas of its own, which is wanted while the {@link Spawner} can spawn
+ * that type this wave or within {@link #LOOKAHEAD_WAVES} waves, or while one is alive:
+ * - wanted and not loaded: queued on the {@link Assets} loader, which decodes it on its thread
+ *   while {@link #update} feeds it one step a frame; taken once it is in.
+ * - no longer wanted: given back and evicted, its pages unloaded there and then.
+ * Wave gates only open as a run goes on, so in practice a run ends with everything it reached
+ * resident, and the next run (a new residency at wave 1) evicts it when the old one is disposed.
+ *
+ * An enemy whose atlas isn't in yet when it is drawn (the loader falling a whole wave behind, or a
+ * jump straight to a late wave) loads it on the spot, blocking; {@link #misses()} counts those.
+ *
+ * Each atlas is a draw page ({@link #pageOf}): drawing enemies page by page keeps it one texture
+ * switch per page rather than one per enemy of a different type.
+ */
+public class SpriteResidency implements Disposable {
+    /** How many waves before a type's first possible spawn its atlas starts loading. */
+    public static final int LOOKAHEAD_WAVES = 1;
+
+    private static final int TYPES = EnemyType.ALL.length;
+
+    private final Assets assets;
+    private final TextureRegion[] regions = new TextureRegion[TYPES];  // null = not resident yet
+    private final TextureAtlas[] held = new TextureAtlas[TYPES];       // streamed atlas taken, by type
+    private final boolean[] streamed = new boolean[TYPES];
+    private final boolean[] requested = new boolean[TYPES];
+    private final int[] alive = new int[TYPES];
+    private final int[] page = new int[TYPES];
+    private final int[] alivePerPage;
+    private final int pages;
+    private int misses = 0;
+
+    /** @param base the atlas at {@code basePath}, held by the caller for as long as this lives */
+    public SpriteResidency(Assets assets, String basePath, TextureAtlas base) {
+        this.assets = assets;
+        int next = 1; // page 0 is the base atlas
+        for (EnemyType t : EnemyType.ALL) {
+            int i = t.ordinal();
+            if (t.atlas.equals(basePath)) {
+                regions[i] = findRegion(base, t);
+                page[i] = 0;
+                continue;
+            }
+            streamed[i] = true;
+            page[i] = next;
+            for (EnemyType u : EnemyType.ALL) { // types sharing an atlas share its page
+                if (u.ordinal() >= i) break;
+                if (streamed[u.ordinal()] && u.atlas.equals(t.atlas)) {
+                    page[i] = page[u.ordinal()];
+                    break;
+                }
+            }
+            if (page[i] == next) next++;
+        }
+        pages = next;
+        alivePerPage = new int[pages];
+    }
+
+    /** Once a frame, after the sim steps: prefetch what the coming waves need, drop what nothing needs. */
+    public void update(int wave, EnemyStore enemies) {
+        for (int t = 0; t < TYPES; t++) alive[t] = 0;
+        for (int p = 0; p < pages; p++) alivePerPage[p] = 0;
+        for (int i = 0; i < enemies.size; i++) alive[enemies.type[i]]++;
+        for (int t = 0; t < TYPES; t++) alivePerPage[page[t]] += alive[t];
+
+        boolean pending = false;
+        for (int t = 0; t < TYPES; t++) {
+            if (!streamed[t]) continue;
+            if (!wanted(t, wave)) {
+                if (requested[t]) drop(t);
+                continue;
+            }
+            if (regions[t] != null) continue;
+            EnemyType type = EnemyType.ALL[t];
+            if (!requested[t]) {
+                assets.preload(type.atlas, TextureAtlas.class);
+                requested[t] = true;
+            }
+            if (assets.isLoaded(type.atlas)) take(t);
+            else pending = true;
+        }
+        if (pending) assets.update();
+    }
+
+    private boolean wanted(int t, int wave) {
+        if (alive[t] > 0) return true;
+        for (int w = wave; w <= wave + LOOKAHEAD_WAVES; w++) {
+            if (Spawner.chanceOf(EnemyType.ALL[t], w) > 0f) return true;
+        }
+        return false;
+    }
+
+    /** The sprite for an {@link EnemyStore} type id; loads its atlas now if it isn't in yet. */
+    public TextureRegion region(int type) {
+        TextureRegion r = regions[type];
+        if (r != null) return r;
+        misses++;
+        requested[type] = true;
+        take(type);
+        return regions[type];
+    }
+
+    /** Draw page of a type id: 0 for the base atlas, then one per streamed atlas. */
+    public int pageOf(int type) { return page[type]; }
+
+    public int pageCount() { return pages; }
+
+    /** Enemies alive on a page at the last {@link #update}. */
+    public int aliveOnPage(int page) { return alivePerPage[page]; }
+
+    /** Streamed atlases taken (the base one not counted). */
+    public int residentPages() {
+        int n = 0;
+        for (int t = 0; t < TYPES; t++) {
+            if (held[t] != null) n++;
+        }
+        return n;
+    }
+
+    /** Sprites that had to be loaded blocking, at draw time. */
+    public int misses() { return misses; }
+
+    private void take(int t) {
+        EnemyType type = EnemyType.ALL[t];
+        held[t] = assets.atlas(type.atlas); // finishes the load here if it hadn't
+        regions[t] = findRegion(held[t], type);
+    }
+
+    private void drop(int t) {
+        EnemyType type = EnemyType.ALL[t];
+        requested[t] = false;
+        regions[t] = null;
+        if (held[t] != null) {
+            assets.release(held[t]);
+            held[t] = null;
+        }
+        assets.evict(type.atlas); // stays if another holder (a type sharing the atlas) still has it
+    }
+
+    private static TextureRegion findRegion(TextureAtlas atlas, EnemyType type) {
+        TextureRegion r = atlas.findRegion(type.sprite);
+        if (r == null) throw new GdxRuntimeException("Missing region '" + type.sprite + "' in " + type.atlas);
+        return r;
+    }
+
+    @Override
+    public void dispose() {
+        for (int t = 0; t < TYPES; t++) {
+            if (requested[t]) drop(t);
+        }
+    }
+}
@@ -2,41 +2,83 @@ package com.rgs.swordsurvivor.combat;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import com.rgs.swordsurvivor.entities.Enemy;
+import com.rgs.swordsurvivor.entities.EnemyStore;
 import com.rgs.swordsurvivor.entities.Player;
 
+/**
+ * Sword hit testing. Nothing here allocates and distances are compared squared.
+ *
+ * The blade is a thick segment from the player out to swordReach. Over one frame it sweeps
+ * from {@link Swing#prevAngleDeg} to {@link Swing#currentAngleDeg}, covering a circular sector
+ * (inflated by half the blade thickness); testing that whole sector means fast swings can't
+ * step over small enemies between frames.
+ */
 public final class CombatUtils {
+    /** Sweeps wider than this are tested as several convex wedges. */
+    static final float MAX_WEDGE_DEG = 90f;
+
     private CombatUtils() {}
 
-    public static boolean swordHitsEnemyThisFrame(Player p, Enemy e) {
-        // Sword represented by a thick line from player.pos to end point in swing direction.
-        Vector2 dir = angleToDir(p.swing.currentAngleDeg);
-        Vector2 p0 = p.pos;
-        Vector2 p1 = new Vector2(p.pos).mulAdd(dir, p.swordReach);
-
-        // Closest point from enemy center to segment p0-p1
-        Vector2 v = new Vector2(p1).sub(p0);
-        float len = v.len();
-        if (len == 0) return false;
-        Vector2 u = new Vector2(v).scl(1f / len);
-
-        Vector2 pe = e.pos;
-        float t = (pe.x - p0.x) * u.x + (pe.y - p0.y) * u.y;
-        t = MathUtils.clamp(t, 0f, len);
-        Vector2 closest = new Vector2(p0).mulAdd(u, t);
-
-        float dist = pe.dst(closest);
-        float hitRadius = p.swordThickness * 0.5f + e.size * 0.5f;
-        return dist <= hitRadius;
+    public static boolean swordHitsEnemyThisFrame(Player p, EnemyStore enemies, int i) {
+        Swing s = p.swing;
+        return sweptArcHitsCircle(p.pos.x, p.pos.y, s.prevAngleDeg, s.currentAngleDeg,
+            p.swordReach, p.swordThickness * 0.5f, enemies.x[i], enemies.y[i], enemies.radius[i]);
+    }
+
+    /**
+     * Does the blade swept from fromDeg to toDeg (either direction) touch the circle (cx, cy, radius)?
+     * Touching counts as a hit.
+     */
+    public static boolean sweptArcHitsCircle(float ox, float oy, float fromDeg, float toDeg,
+                                             float reach, float halfThickness,
+                                             float cx, float cy, float radius) {
+        float dx = cx - ox, dy = cy - oy;
+        float rr = halfThickness + radius;
+        float lo = Math.min(fromDeg, toDeg), hi = Math.max(fromDeg, toDeg);
+        if (hi - lo >= 360f) {
+            float r = reach + rr;
+            return dx*dx + dy*dy <= r*r;
+        }
+
+        float a = lo;
+        float ax = MathUtils.cosDeg(a), ay = MathUtils.sinDeg(a);
+        while (true) {
+            float b = Math.min(hi, a + MAX_WEDGE_DEG);
+            float bx = MathUtils.cosDeg(b), by = MathUtils.sinDeg(b);
+            if (hitsWedge(dx, dy, ax, ay, bx, by, reach, rr)) return true;
+            if (b >= hi) return false;
+            a = b; ax = bx; ay = by;
+        }
+    }
+
+    /**
+     * Point (dx, dy), relative to the pivot, within rr of the sector between unit directions
+     * a (lower angle) and b (higher angle), at most 180 degrees apart?
+     */
+    static boolean hitsWedge(float dx, float dy, float ax, float ay, float bx, float by, float reach, float rr) {
+        float rr2 = rr * rr;
+
+        // Inside the wedge (and in front of the pivot): the nearest blade position points straight at it
+        if (ax * dy - ay * dx >= 0f && dx * by - dy * bx >= 0f && (ax + bx) * dx + (ay + by) * dy >= 0f) {
+            float r = reach + rr;
+            return dx*dx + dy*dy <= r*r;
+        }
+
+        // Otherwise the nearest point lies on one of the two edge blades
+        return segDst2(dx, dy, ax, ay, reach) <= rr2 || segDst2(dx, dy, bx, by, reach) <= rr2;
     }
 
-    public static Vector2 endOfSword(Player p) {
-        Vector2 dir = angleToDir(p.swing.currentAngleDeg);
-        return new Vector2(p.pos).mulAdd(dir, p.swordReach);
+    /** Squared distance from (dx, dy) to the segment from the origin along unit dir (ux, uy) of length len. */
+    private static float segDst2(float dx, float dy, float ux, float uy, float len) {
+        float t = dx * ux + dy * uy;
+        if (t < 0f) t = 0f; else if (t > len) t = len;
+        float ex = dx - ux * t, ey = dy - uy * t;
+        return ex*ex + ey*ey;
     }
 
-    private static Vector2 angleToDir(float deg) {
-        float rad = deg * MathUtils.degRad;
-        return new Vector2(MathUtils.cos(rad), MathUtils.sin(rad));
+    /** Tip of the blade at its current angle, written into out. */
+    public static Vector2 endOfSword(Player p, Vector2 out) {
+        return out.set(p.pos.x + MathUtils.cosDeg(p.swing.currentAngleDeg) * p.swordReach,
+            p.pos.y + MathUtils.sinDeg(p.swing.currentAngleDeg) * p.swordReach);
     }
 }
@@ -0,0 +1,111 @@
+package com.rgs.swordsurvivor.combat;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+
+import com.rgs.swordsurvivor.entities.Player;
+
+/**
+ * One frame of sword sweep with its trig precomputed, for testing a swing against many bodies.
+ * Reuse a single instance: {@link #set} once per frame, then {@link #overlaps} or {@link #overlapsAll}.
+ */
+public final class SweptArc {
+    // Wedge edges: wedge k spans dir k -> dir k+1 (at most 360/MAX_WEDGE_DEG wedges)
+    private static final int MAX_EDGES = (int)(360f / CombatUtils.MAX_WEDGE_DEG) + 1;
+    private final float[] dirX = new float[MAX_EDGES];
+    private final float[] dirY = new float[MAX_EDGES];
+    private int wedges;
+    private boolean fullCircle;
+
+    private float ox, oy, reach, halfThickness;
+    private float minX, minY, maxX, maxY;
+
+    /** This frame's sweep of the player's swing. */
+    public SweptArc set(Player p) {
+        Swing s = p.swing;
+        return set(p.pos.x, p.pos.y, s.prevAngleDeg, s.currentAngleDeg, p.swordReach, p.swordThickness * 0.5f);
+    }
+
+    public SweptArc set(float ox, float oy, float fromDeg, float toDeg, float reach, float halfThickness) {
+        this.ox = ox;
+        this.oy = oy;
+        this.reach = reach;
+        this.halfThickness = halfThickness;
+
+        float lo = Math.min(fromDeg, toDeg), hi = Math.max(fromDeg, toDeg);
+        fullCircle = hi - lo >= 360f;
+
+        // Bounds: pivot, edge tips and any axis extreme crossed by the sweep
+        minX = maxX = ox;
+        minY = maxY = oy;
+        if (fullCircle) {
+            wedges = 0;
+            extend(ox - reach, oy - reach);
+            extend(ox + reach, oy + reach);
+        } else {
+            wedges = 0;
+            float a = lo;
+            putEdge(0, a);
+            while (true) {
+                float b = Math.min(hi, a + CombatUtils.MAX_WEDGE_DEG);
+                putEdge(++wedges, b);
+                if (b >= hi) break;
+                a = b;
+            }
+            for (float q = (float)Math.ceil(lo / 90f) * 90f; q <= hi; q += 90f) {
+                extend(ox + MathUtils.cosDeg(q) * reach, oy + MathUtils.sinDeg(q) * reach);
+            }
+        }
+        minX -= halfThickness; minY -= halfThickness;
+        maxX += halfThickness; maxY += halfThickness;
+        return this;
+    }
+
+    public float getMinX() { return minX; }
+    public float getMinY() { return minY; }
+    public float getMaxX() { return maxX; }
+    public float getMaxY() { return maxY; }
+
+    /** Does the swept blade touch the circle (cx, cy, radius)? */
+    public boolean overlaps(float cx, float cy, float radius) {
+        float dx = cx - ox, dy = cy - oy;
+        float rr = halfThickness + radius;
+        if (fullCircle) {
+            float r = reach + rr;
+            return dx*dx + dy*dy <= r*r;
+        }
+        for (int k = 0; k < wedges; k++) {
+            if (CombatUtils.hitsWedge(dx, dy, dirX[k], dirY[k], dirX[k + 1], dirY[k + 1], reach, rr)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Batch test against bodies 0..count-1 stored as parallel arrays.
+     * @param out cleared, then filled with the indices that were hit, ascending
+     * @return number of hits
+     */
+    public int overlapsAll(float[] xs, float[] ys, float[] radii, int count, IntArray out) {
+        out.clear();
+        for (int i = 0; i < count; i++) {
+            float r = radii[i];
+            // cheap reject on the swept bounds before the wedge math
+            if (xs[i] + r < minX || xs[i] - r > maxX || ys[i] + r < minY || ys[i] - r > maxY) continue;
+            if (overlaps(xs[i], ys[i], r)) out.add(i);
+        }
+        return out.size;
+    }
+
+    private void putEdge(int k, float deg) {
+        dirX[k] = MathUtils.cosDeg(deg);
+        dirY[k] = MathUtils.sinDeg(deg);
+        extend(ox + dirX[k] * reach, oy + dirY[k] * reach);
+    }
+
+    private void extend(float x, float y) {
+        if (x < minX) minX = x;
+        if (x > maxX) maxX = x;
+        if (y < minY) minY = y;
+        if (y > maxY) maxY = y;
+    }
+}
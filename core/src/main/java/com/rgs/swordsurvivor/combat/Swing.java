@@ -9,4 +9,5 @@ public class Swing {
     public float startAngleDeg = 0f;   // top of the arc
     public float endAngleDeg = 0f;     // bottom of the arc
     public float currentAngleDeg = 0f; // animated each frame
+    public float prevAngleDeg = 0f;    // blade angle at the start of this frame's sweep
 }
@@ -0,0 +1,165 @@
+package com.rgs.swordsurvivor.entities;
+
+import com.rgs.swordsurvivor.systems.FlowField;
+
+/**
+ * All live enemies as parallel primitive arrays (structure of arrays).
+ *
+ * Row i of every array describes one enemy; rows 0..size-1 are live. Removal swaps the last
+ * row into the hole, so indices are only stable until the next {@link #removeIndex}.
+ * Per-type constants come from {@link EnemyType}; only mutable state lives here.
+ */
+public class EnemyStore {
+    public int size = 0;
+
+    public float[] x;
+    public float[] y;
+    public float[] prevX;        // position at the start of the current sim step (render lerp)
+    public float[] prevY;
+    public float[] radius;
+    public float[] speed;
+    public float[] hurtTimer;
+    public int[] hp;
+    public int[] touchDamage;
+    public int[] lastHitSwingId;
+    public byte[] type;          // EnemyType ordinal
+    public boolean[] facingLeft;
+
+    public EnemyStore() {
+        this(256);
+    }
+
+    public EnemyStore(int capacity) {
+        allocate(Math.max(16, capacity));
+    }
+
+    /** Append an enemy of the given type with its base stats. @return its row */
+    public int add(EnemyType t, float px, float py) {
+        if (size == x.length) resize(size * 2);
+        int i = size++;
+        x[i] = px;
+        y[i] = py;
+        prevX[i] = px;
+        prevY[i] = py;
+        radius[i] = t.size * 0.5f;
+        speed[i] = t.speed;
+        hurtTimer[i] = 0f;
+        hp[i] = t.hp;
+        touchDamage[i] = t.touchDamage;
+        lastHitSwingId[i] = -1;
+        type[i] = (byte)t.ordinal();
+        facingLeft[i] = false;
+        return i;
+    }
+
+    /** Swap-remove: the last row moves into row i. */
+    public void removeIndex(int i) {
+        int last = --size;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            radius[i] = radius[last];
+            speed[i] = speed[last];
+            hurtTimer[i] = hurtTimer[last];
+            hp[i] = hp[last];
+            touchDamage[i] = touchDamage[last];
+            lastHitSwingId[i] = lastHitSwingId[last];
+            type[i] = type[last];
+            facingLeft[i] = facingLeft[last];
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /** Remember current positions as the previous step's, before advancing the simulation. */
+    public void savePositions() {
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    public EnemyType typeOf(int i) {
+        return EnemyType.ALL[type[i]];
+    }
+
+    /** Sprite size of row i. */
+    public float sizeOf(int i) {
+        return radius[i] * 2f;
+    }
+
+    /**
+     * Move every live enemy along the flow field, face the target, and tick the hurt flash.
+     * @param targetX only used for facing; where to go comes from the field
+     */
+    public void update(float dt, FlowField field, float targetX) {
+        update(dt, field, targetX, 0, size);
+    }
+
+    /**
+     * {@link #update(float, FlowField, float)} for rows from..to-1 only. Rows are independent, so
+     * disjoint ranges may run on different threads once {@link FlowField#aimAll} has been called.
+     */
+    public void update(float dt, FlowField field, float targetX, int from, int to) {
+        float goalX = field.getGoalX(), goalY = field.getGoalY();
+        for (int i = from; i < to; i++) {
+            int c = field.sample(x[i], y[i]);
+            float step = speed[i] * dt;
+            if (field.steersExactly(c)) {
+                // Next to the goal: straight at it from this enemy, not from its cell's center
+                float dx = goalX - x[i], dy = goalY - y[i];
+                float len2 = dx*dx + dy*dy;
+                if (len2 > 1e-4f) {
+                    float s = step / (float)Math.sqrt(len2);
+                    x[i] += dx * s;
+                    y[i] += dy * s;
+                }
+            } else {
+                x[i] += field.dirX(c) * step;
+                y[i] += field.dirY(c) * step;
+            }
+
+            if (targetX < x[i]) facingLeft[i] = true;
+            else if (targetX > x[i]) facingLeft[i] = false;
+
+            if (hurtTimer[i] > 0f) hurtTimer[i] -= dt;
+        }
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        radius = new float[capacity];
+        speed = new float[capacity];
+        hurtTimer = new float[capacity];
+        hp = new int[capacity];
+        touchDamage = new int[capacity];
+        lastHitSwingId = new int[capacity];
+        type = new byte[capacity];
+        facingLeft = new boolean[capacity];
+    }
+
+    private void resize(int capacity) {
+        float[] ox = x, oy = y, oPrevX = prevX, oPrevY = prevY, oRadius = radius, oSpeed = speed, oHurt = hurtTimer;
+        int[] oHp = hp, oTouch = touchDamage, oLastHit = lastHitSwingId;
+        byte[] oType = type;
+        boolean[] oFacing = facingLeft;
+        allocate(capacity);
+        System.arraycopy(ox, 0, x, 0, size);
+        System.arraycopy(oy, 0, y, 0, size);
+        System.arraycopy(oPrevX, 0, prevX, 0, size);
+        System.arraycopy(oPrevY, 0, prevY, 0, size);
+        System.arraycopy(oRadius, 0, radius, 0, size);
+        System.arraycopy(oSpeed, 0, speed, 0, size);
+        System.arraycopy(oHurt, 0, hurtTimer, 0, size);
+        System.arraycopy(oHp, 0, hp, 0, size);
+        System.arraycopy(oTouch, 0, touchDamage, 0, size);
+        System.arraycopy(oLastHit, 0, lastHitSwingId, 0, size);
+        System.arraycopy(oType, 0, type, 0, size);
+        System.arraycopy(oFacing, 0, facingLeft, 0, size);
+    }
+}
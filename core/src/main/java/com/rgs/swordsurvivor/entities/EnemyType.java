@@ -0,0 +1,46 @@
+package com.rgs.swordsurvivor.entities;
+
+/**
+ * Type table for {@link EnemyStore} rows. Each entry scales the base enemy
+ * (48px body, 4 HP, 1 contact damage, 85 speed) before Spawner's per-wave scaling.
+ */
+public enum EnemyType {
+    /** Regular enemy. */
+    NORMAL   ("enemy",  "sprites.atlas", 1f,   1f,    1, 1f,    1,  0f),
+    /** A tougher, larger enemy that spawns infrequently from Wave 2+. 2x body, ~5x HP, slower. */
+    BRUTE    ("enemy2", "sprites.atlas", 2f,   5f,    2, 0.7f,  5,  15f),
+    /** Very tanky, very big enemy. 3x body, ~12x HP. Spawns from Wave 5+. */
+    GOLEM    ("enemy3", "enemy3.atlas",  3f,   12f,   3, 0.55f, 8,  20f),
+    /** Massive late-game enemy. 4x body, 27x HP. Spawns from Wave 10+. */
+    OBBY     ("enemy4", "enemy4.atlas",  4f,   27f,   4, 0.45f, 15, 26f),
+    /** Huge late-game FireOrb. 5x body, 100x HP, very slow. Spawns from Wave 50+. */
+    FIRE_ORB ("enemy5", "enemy5.atlas",  5f,   100f,  5, 0.1f,  30, 32f);
+
+    public static final float BASE_SIZE = 48f;
+    public static final int BASE_HP = 4;
+    public static final int BASE_TOUCH_DAMAGE = 1;
+    public static final float BASE_SPEED = 85f;
+
+    /** Cached values(), indexed by the store's type id. */
+    public static final EnemyType[] ALL = values();
+
+    public final String sprite;     // region name in the atlas below
+    public final String atlas;      // shared sprites.atlas, or its own page streamed by wave (SpriteResidency)
+    public final float size;        // sprite size; collision radius is half of it
+    public final int hp;
+    public final int touchDamage;
+    public final float speed;
+    public final int orbCount;      // XP orbs dropped on death
+    public final float orbRing;     // radius of the drop ring (single orbs drop in place)
+
+    EnemyType(String sprite, String atlas, float sizeMul, float hpMul, int damageMul, float speedMul, int orbCount, float orbRing) {
+        this.sprite = sprite;
+        this.atlas = atlas;
+        this.size = BASE_SIZE * sizeMul;
+        this.hp = (int)Math.ceil(BASE_HP * hpMul);
+        this.touchDamage = Math.max(1, BASE_TOUCH_DAMAGE * damageMul);
+        this.speed = BASE_SPEED * speedMul;
+        this.orbCount = orbCount;
+        this.orbRing = orbRing;
+    }
+}
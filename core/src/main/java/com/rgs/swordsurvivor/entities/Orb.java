@@ -1,26 +1,42 @@
 package com.rgs.swordsurvivor.entities;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
-public class Orb {
-    public final Vector2 pos;
-    public final int value;
+/** XP orb. Pooled: obtain through EntityPools, then {@link #init} to place it. */
+public class Orb implements Pool.Poolable {
+    public final Vector2 pos = new Vector2();
+    public final Vector2 prevPos = new Vector2(); // pos at the start of the current sim step (render lerp)
+    public int value;
     public float radius = 5f;
     public float magnetSpeed = 160f;
+    public int cell = -1; // OrbMerger cell this orb owns, -1 if none
 
-    public Orb(Vector2 pos, int value) {
-        this.pos = pos;
+    public Orb init(float x, float y, int value) {
+        this.pos.set(x, y);
+        this.prevPos.set(x, y);
         this.value = value;
+        return this;
     }
 
+    @Override
+    public void reset() {
+        pos.setZero();
+        prevPos.setZero();
+        value = 0;
+        radius = 5f;
+        magnetSpeed = 160f;
+        cell = -1;
+    }
+
+    /** Drift toward the player once within magnet range (no allocation: called for every orb, every step). */
     public void update(float dt, Vector2 playerPos, float pickupRange) {
         float r = pickupRange + 30f;
-        if (pos.dst2(playerPos) <= r*r) {
-            Vector2 dir = new Vector2(playerPos).sub(pos);
-            if (dir.len2() > 1e-4f) {
-                dir.nor().scl(magnetSpeed * dt);
-                pos.add(dir);
-            }
+        float dx = playerPos.x - pos.x, dy = playerPos.y - pos.y;
+        float len2 = dx*dx + dy*dy;
+        if (len2 <= r*r && len2 > 1e-4f) {
+            float s = magnetSpeed * dt / (float)Math.sqrt(len2);
+            pos.add(dx * s, dy * s);
         }
     }
 
@@ -1,7 +1,5 @@
 package com.rgs.swordsurvivor.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.rgs.swordsurvivor.SwordSurvivorGame;
@@ -9,6 +7,7 @@ import com.rgs.swordsurvivor.combat.Swing;
 
 public class Player {
     public final Vector2 pos;
+    public final Vector2 prevPos = new Vector2(); // pos at the start of the current sim step (render lerp)
 
     public float size = 64f;
 
@@ -42,30 +41,22 @@ public class Player {
 
     public Player(Vector2 pos) {
         this.pos = pos;
+        this.prevPos.set(pos);
         this.size = 64f; // if you still use it for sprite drawing
         this.radius = size * 0.5f; // circle collision radius
         this.hp = maxHp = 10;
     }
 
     public void update(float dt, Vector2 mouseWorld) {
-        // movement
-        float moveX = 0, moveY = 0;
-        if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT))  moveX -= 1;
-        if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) moveX += 1;
-        if (Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP))    moveY += 1;
-        if (Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN))  moveY -= 1;
-
-        if (moveX < 0) facingLeft = true;
-        else if (moveX > 0) facingLeft = false;
-
-        pos.add(moveX * speed * dt, moveY * speed * dt);
-
         if (hurtCooldown > 0) hurtCooldown -= dt;
 
         // aim and attack
         float aimDeg = MathUtils.atan2(mouseWorld.y - pos.y, mouseWorld.x - pos.x) * MathUtils.radiansToDegrees;
         attackTimer -= dt;
 
+        // A swing that reached its end last frame retires now, so its final sweep still got hit-tested
+        if (swing.active && swing.elapsed >= swing.duration) swing.active = false;
+
         if (!swing.active && attackTimer <= 0f) {
             startSwing(aimDeg);
             attackTimer = attackCooldown;
@@ -75,8 +66,8 @@ public class Player {
             swing.elapsed += dt;
             float t = com.badlogic.gdx.math.MathUtils.clamp(swing.elapsed / swing.duration, 0f, 1f);
             // simple linear interpolation on already-unwrapped angles
+            swing.prevAngleDeg = swing.currentAngleDeg;
             swing.currentAngleDeg = swing.startAngleDeg + (swing.endAngleDeg - swing.startAngleDeg) * t;
-            if (swing.elapsed >= swing.duration) swing.active = false;
         }
 
         if (hurtTimer > 0f) hurtTimer -= dt;
@@ -111,6 +102,7 @@ public class Player {
         }
 
         swing.currentAngleDeg = swing.startAngleDeg;
+        swing.prevAngleDeg = swing.startAngleDeg;
     }
 
 
@@ -0,0 +1,87 @@
+package com.rgs.swordsurvivor.jobs;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * {@link JobSystem} on a private fork-join pool (desktop only: excluded from the GWT module).
+ *
+ * The range is split into at most a few slices per thread, never smaller than the grain. The
+ * calling thread isn't a pool thread, so it runs the first slice itself while the workers take
+ * the rest, then waits for them. Workers are daemon threads so a pool that was never disposed
+ * can't keep the JVM alive.
+ */
+public class ForkJoinJobSystem implements JobSystem {
+    private static final int SLICES_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+
+    /** One worker per core, leaving one for the render thread. */
+    public ForkJoinJobSystem() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    public ForkJoinJobSystem(int threads) {
+        this.parallelism = Math.max(1, threads);
+        this.pool = new ForkJoinPool(parallelism, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+            @Override public ForkJoinWorkerThread newThread(ForkJoinPool p) {
+                ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                t.setDaemon(true);
+                t.setName("sim-worker-" + t.getPoolIndex());
+                return t;
+            }
+        }, null, false);
+    }
+
+    @Override
+    public void forEach(int count, int grain, Job job) {
+        if (count <= 0) return;
+        int slice = Math.max(Math.max(1, grain), (count + parallelism * SLICES_PER_THREAD - 1) / (parallelism * SLICES_PER_THREAD));
+        if (parallelism == 1 || count <= slice) {
+            job.run(0, count);
+            return;
+        }
+        // The caller would only block in pool.invoke(); it takes one slice inline instead
+        ForkJoinTask<Void> rest = pool.submit(new Slice(job, slice, count, slice));
+        try {
+            job.run(0, slice);
+        } finally {
+            rest.join(); // rethrows a worker's exception
+        }
+    }
+
+    @Override
+    public int parallelism() { return parallelism; }
+
+    @Override
+    public void dispose() {
+        pool.shutdown();
+    }
+
+    private static final class Slice extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Job job;
+        private final int from, to, slice;
+
+        Slice(Job job, int from, int to, int slice) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+            this.slice = slice;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= slice) {
+                job.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Slice(job, from, mid, slice), new Slice(job, mid, to, slice));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.rgs.swordsurvivor.jobs;
+
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Runs data-parallel loops over index ranges.
+ *
+ * A job is handed disjoint [from, to) slices of 0..count-1 and must only write state owned by
+ * its slice (or per-index output slots), so results don't depend on how the range was split or
+ * which thread ran which slice. {@link #forEach} returns once every slice is done, and the
+ * caller then sees all their writes; anything order-sensitive is applied serially afterwards.
+ *
+ * {@link #SERIAL} runs the whole range inline and is what GWT and Android get; desktop plugs in
+ * {@link ForkJoinJobSystem} through {@link com.rgs.swordsurvivor.Platform}.
+ */
+public interface JobSystem extends Disposable {
+
+    /** Body of a parallel loop. */
+    interface Job {
+        void run(int from, int to);
+    }
+
+    /**
+     * Run job over 0..count-1 and wait for it.
+     * @param grain smallest slice worth handing to another thread; counts up to this run inline
+     */
+    void forEach(int count, int grain, Job job);
+
+    /** Threads that may run slices at once (1 = serial). */
+    int parallelism();
+
+    JobSystem SERIAL = new JobSystem() {
+        @Override public void forEach(int count, int grain, Job job) {
+            if (count > 0) job.run(0, count);
+        }
+        @Override public int parallelism() { return 1; }
+        @Override public void dispose() {}
+    };
+}
@@ -0,0 +1,24 @@
+package com.rgs.swordsurvivor.metrics;
+
+/** Monotonic count (spawns, hits, kills...). Exported as a running total. */
+public class Counter {
+    final Metrics owner;
+    final String name;
+    private long count;
+
+    Counter(Metrics owner, String name) {
+        this.owner = owner;
+        this.name = name;
+    }
+
+    public void inc() {
+        if (owner.enabled) count++;
+    }
+
+    public void add(long n) {
+        if (owner.enabled) count += n;
+    }
+
+    public long get() { return count; }
+    public String getName() { return name; }
+}
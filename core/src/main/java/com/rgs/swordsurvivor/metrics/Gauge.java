@@ -0,0 +1,6 @@
+package com.rgs.swordsurvivor.metrics;
+
+/** A current value (population, heap...), sampled at export time only. */
+public interface Gauge {
+    double value();
+}
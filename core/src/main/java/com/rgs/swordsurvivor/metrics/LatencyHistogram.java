@@ -0,0 +1,73 @@
+package com.rgs.swordsurvivor.metrics;
+
+/**
+ * Log-linear histogram of durations in nanoseconds, HDR style: each power of two is split into
+ * {@link #SUB_BUCKETS}/2 linear buckets, so any value is kept to within ~3% with a fixed 9 KB
+ * table and no allocation. Values past 2^40 ns (18 minutes) are clamped.
+ *
+ * The exporter reads percentiles for the interval and then {@link #reset}s it, so each exported
+ * line describes only the time since the previous one.
+ */
+public class LatencyHistogram {
+    static final int SUB_BITS = 6;
+    static final int SUB_BUCKETS = 1 << SUB_BITS;      // 64
+    static final int HALF = SUB_BUCKETS / 2;
+    static final long MAX_VALUE = 1L << 40;
+    static final int BUCKETS = index(MAX_VALUE - 1) + 1;
+
+    final Metrics owner;
+    final String name;
+    private final long[] counts = new long[BUCKETS];
+    private long total, sum, max;
+
+    LatencyHistogram(Metrics owner, String name) {
+        this.owner = owner;
+        this.name = name;
+    }
+
+    public void record(long nanos) {
+        if (!owner.enabled) return;
+        if (nanos < 0) nanos = 0;
+        else if (nanos >= MAX_VALUE) nanos = MAX_VALUE - 1;
+        counts[index(nanos)]++;
+        total++;
+        sum += nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    public String getName() { return name; }
+    public long getCount() { return total; }
+    public long getMax() { return max; }
+    public double getMean() { return total == 0 ? 0 : (double)sum / total; }
+
+    /** Value that fraction p (0..1) of the recorded values is at or under (bucket upper edge, capped at max). */
+    public long percentile(double p) {
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long)Math.ceil(p * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperEdge(i), max);
+        }
+        return max;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) counts[i] = 0;
+        total = sum = max = 0;
+    }
+
+    /** Values below SUB_BUCKETS map 1:1; above, the top SUB_BITS bits pick the bucket. */
+    static int index(long v) {
+        if (v < SUB_BUCKETS) return (int)v;
+        int shift = 63 - Long.numberOfLeadingZeros(v) - (SUB_BITS - 1);
+        return shift * HALF + (int)(v >>> shift);
+    }
+
+    static long upperEdge(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = index / HALF - 1;
+        long mantissa = index - shift * HALF;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,49 @@
+package com.rgs.swordsurvivor.metrics;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Named counters, gauges and latency histograms for soak runs, exported by {@link MetricsExporter}.
+ *
+ * Metrics are created once (by name; asking again returns the same one) and kept in fields by
+ * whoever records them. While the registry is disabled, which is the default, recording is a
+ * single field read and branch, so the calls stay in production builds.
+ * Record from one thread (the one driving the simulation).
+ */
+public class Metrics {
+    boolean enabled = false;
+
+    final Array<Counter> counters = new Array<>();
+    final Array<String> gaugeNames = new Array<>();
+    final Array<Gauge> gauges = new Array<>();
+    final Array<LatencyHistogram> histograms = new Array<>();
+
+    public boolean isEnabled() { return enabled; }
+
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Counter counter(String name) {
+        for (Counter c : counters) if (c.name.equals(name)) return c;
+        Counter c = new Counter(this, name);
+        counters.add(c);
+        return c;
+    }
+
+    /** Register a value that is read when exporting (nothing happens on the hot path). */
+    public void gauge(String name, Gauge gauge) {
+        int i = gaugeNames.indexOf(name, false);
+        if (i >= 0) {
+            gauges.set(i, gauge);
+            return;
+        }
+        gaugeNames.add(name);
+        gauges.add(gauge);
+    }
+
+    public LatencyHistogram histogram(String name) {
+        for (LatencyHistogram h : histograms) if (h.name.equals(name)) return h;
+        LatencyHistogram h = new LatencyHistogram(this, name);
+        histograms.add(h);
+        return h;
+    }
+}
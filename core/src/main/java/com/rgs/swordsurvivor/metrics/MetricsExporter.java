@@ -0,0 +1,129 @@
+package com.rgs.swordsurvivor.metrics;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * Appends one JSON object per interval to a file (JSON lines), for soak runs to be graphed later:
+ * <pre>{"t":30.0,"spawn.enemies":212,...,"sim.step_ns.p99":182000,...}</pre>
+ * Counters are running totals, gauges are sampled at the interval, histograms describe only the
+ * interval (count, mean, p50, p90, p99, p999, max) and are reset after.
+ *
+ * {@link #startRun} writes a <pre>{"run":"start","seed":"1234"}</pre> line and restarts the clock, so
+ * several runs can share one file.
+ *
+ * Enables the registry while it exists. Lines are built on the calling thread (once per interval)
+ * and written by a background thread; past maxBytes the file rolls over to "name.1".
+ */
+public class MetricsExporter {
+    public static final float DEFAULT_INTERVAL = 1f;
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    private final Metrics metrics;
+    private final FileHandle file;
+    private final float interval;
+    private final long maxBytes;
+    private final AsyncExecutor executor = new AsyncExecutor(1, "metrics-writer");
+    private final StringBuilder line = new StringBuilder(1024);
+
+    private float elapsed = 0f, sinceLast = 0f;
+    private long written = 0;
+
+    /** Truncates the file. */
+    public MetricsExporter(Metrics metrics, FileHandle file) {
+        this(metrics, file, false);
+    }
+
+    public MetricsExporter(Metrics metrics, FileHandle file, boolean append) {
+        this(metrics, file, append, DEFAULT_INTERVAL, DEFAULT_MAX_BYTES);
+    }
+
+    /** @param append keep what the file already holds (counted towards maxBytes) instead of truncating it */
+    public MetricsExporter(Metrics metrics, FileHandle file, boolean append, float intervalSeconds, long maxBytes) {
+        this.metrics = metrics;
+        this.file = file;
+        this.interval = Math.max(0.05f, intervalSeconds);
+        this.maxBytes = maxBytes;
+        if (append && file.exists()) written = file.length();
+        else file.writeString("", false);
+        metrics.setEnabled(true);
+    }
+
+    /** Advance the export clock (real or simulated seconds); writes a line when an interval is up. */
+    public void update(float delta) {
+        elapsed += delta;
+        sinceLast += delta;
+        if (sinceLast >= interval) {
+            sinceLast -= interval;
+            if (sinceLast > interval) sinceLast = 0f; // long hitch: don't try to catch up
+            export();
+        }
+    }
+
+    /** A run starts: the last one's partial interval is written, then the marker line; the clock restarts. */
+    public void startRun(long seed) {
+        if (sinceLast > 0f) export();
+        elapsed = 0f;
+        sinceLast = 0f;
+        StringBuilder b = line;
+        b.setLength(0);
+        b.append("{\"run\":\"start\",\"seed\":\"").append(seed).append("\"}\n");
+        write(b.toString());
+    }
+
+    /** Write the current interval now. */
+    public void export() {
+        StringBuilder b = line;
+        b.setLength(0);
+        b.append("{\"t\":").append(Math.round(elapsed * 1000f) / 1000f);
+        for (Counter c : metrics.counters) key(b, c.name).append(c.get());
+        for (int i = 0; i < metrics.gauges.size; i++) {
+            double v = metrics.gauges.get(i).value();
+            key(b, metrics.gaugeNames.get(i));
+            if (v == Math.rint(v) && Math.abs(v) < 1e15) b.append((long)v);
+            else b.append(v);
+        }
+        for (LatencyHistogram h : metrics.histograms) {
+            key(b, h.name, ".n").append(h.getCount());
+            key(b, h.name, ".mean").append(Math.round(h.getMean()));
+            key(b, h.name, ".p50").append(h.percentile(0.50));
+            key(b, h.name, ".p90").append(h.percentile(0.90));
+            key(b, h.name, ".p99").append(h.percentile(0.99));
+            key(b, h.name, ".p999").append(h.percentile(0.999));
+            key(b, h.name, ".max").append(h.getMax());
+            h.reset();
+        }
+        b.append("}\n");
+        write(b.toString());
+    }
+
+    private void write(final String text) {
+        executor.submit(new AsyncTask<Void>() {
+            @Override public Void call() {
+                if (written > maxBytes) {
+                    file.moveTo(file.sibling(file.name() + ".1"));
+                    written = 0;
+                }
+                file.writeString(text, true, "UTF-8");
+                written += text.length();
+                return null;
+            }
+        });
+    }
+
+    /** Write the last partial interval, wait for the writer, and disable the registry. */
+    public void close() {
+        if (sinceLast > 0f) export();
+        metrics.setEnabled(false);
+        executor.dispose();
+    }
+
+    private static StringBuilder key(StringBuilder b, String name) {
+        return b.append(",\"").append(name).append("\":");
+    }
+
+    private static StringBuilder key(StringBuilder b, String name, String suffix) {
+        return b.append(",\"").append(name).append(suffix).append("\":");
+    }
+}
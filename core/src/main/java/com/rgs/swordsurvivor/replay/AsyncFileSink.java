@@ -0,0 +1,36 @@
+package com.rgs.swordsurvivor.replay;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * Appends replay chunks to a file from a single background thread, so the render thread never
+ * waits on the disk. Chunks are written in the order they were handed over; {@link #close}
+ * waits for the queue to drain.
+ */
+public class AsyncFileSink implements ReplayWriter.Sink {
+    private final FileHandle file;
+    private final AsyncExecutor executor = new AsyncExecutor(1, "replay-writer");
+
+    /** Truncates the file. */
+    public AsyncFileSink(FileHandle file) {
+        this.file = file;
+        file.writeBytes(new byte[0], false);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int length) {
+        executor.submit(new AsyncTask<Void>() {
+            @Override public Void call() {
+                file.writeBytes(bytes, 0, length, true);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        executor.dispose(); // runs what is queued, then stops the thread
+    }
+}
@@ -0,0 +1,53 @@
+package com.rgs.swordsurvivor.replay;
+
+import com.rgs.swordsurvivor.sim.InputCommand;
+
+/**
+ * Binary layout of a recorded run (".ssr").
+ *
+ * Header: magic "SSRP" (4 bytes), version (varint), seed (8 bytes, big-endian), sim rate in Hz
+ * (varint). Then a record stream, each record starting with a one-byte tag:
+ * <ul>
+ *   <li>0..15: one step. The low bits flag which input fields changed since the previous step
+ *       (moveX, moveY, aimX, aimY); each flagged field follows as a zigzag varint delta of its
+ *       quantized value. A step with nothing changed is the single byte 0.</li>
+ *   <li>{@link #TAG_REPEAT} n: n more steps with unchanged input (idle player, held keys).</li>
+ *   <li>{@link #TAG_BOON} i: boon i was taken before the next step.</li>
+ *   <li>{@link #TAG_PAUSE} / {@link #TAG_RESUME}: the player paused / resumed (no sim effect;
+ *       kept so a spike can be lined up with what the player was doing).</li>
+ *   <li>{@link #TAG_VIEW} w h: the view size changed (spawns depend on it); raw float bits.</li>
+ *   <li>{@link #TAG_END}: clean end of the recording.</li>
+ * </ul>
+ *
+ * Inputs are quantized before the live sim sees them ({@link #quantize}), so decoding yields the
+ * exact same floats and the replay takes the exact same path.
+ */
+public final class ReplayFormat {
+    public static final int MAGIC = 0x53535250; // "SSRP"
+    public static final int VERSION = 1;
+
+    static final int MOVE_X = 1, MOVE_Y = 2, AIM_X = 4, AIM_Y = 8;
+    static final int TAG_REPEAT = 16;
+    static final int TAG_BOON = 17;
+    static final int TAG_PAUSE = 18;
+    static final int TAG_RESUME = 19;
+    static final int TAG_VIEW = 20;
+    static final int TAG_END = 21;
+
+    /** Movement in 1/1024 steps, aim point in 1/16 world units. */
+    static final float MOVE_SCALE = 1024f;
+    static final float AIM_SCALE = 16f;
+
+    private ReplayFormat() {}
+
+    /** Snap the command to what the format can store (in place). */
+    public static void quantize(InputCommand in) {
+        in.moveX = Math.round(in.moveX * MOVE_SCALE) / MOVE_SCALE;
+        in.moveY = Math.round(in.moveY * MOVE_SCALE) / MOVE_SCALE;
+        in.aimX = Math.round(in.aimX * AIM_SCALE) / AIM_SCALE;
+        in.aimY = Math.round(in.aimY * AIM_SCALE) / AIM_SCALE;
+    }
+
+    static int zigzag(int v) { return (v << 1) ^ (v >> 31); }
+    static int unzigzag(int v) { return (v >>> 1) ^ -(v & 1); }
+}
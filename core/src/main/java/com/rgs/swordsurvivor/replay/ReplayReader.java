@@ -0,0 +1,138 @@
+package com.rgs.swordsurvivor.replay;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import com.rgs.swordsurvivor.sim.InputCommand;
+import com.rgs.swordsurvivor.sim.Simulation;
+
+/**
+ * Plays a recording back into a {@link Simulation} (see {@link ReplayFormat}).
+ *
+ * {@link #start} resets the sim with the recorded seed; each {@link #next} applies whatever was
+ * recorded before the step (boon picks, view size) and fills the step's input. Step the sim with
+ * it exactly as the recorder's game did and the run repeats bit for bit.
+ */
+public class ReplayReader {
+    private final byte[] data;
+    private final int length;
+    private final long seed;
+    private final int simHz;
+    private final int bodyStart;
+
+    private int pos;
+    private int moveX, moveY, aimX, aimY;
+    private int repeats;
+    private int steps;
+    private int pauses;
+    private boolean ended;
+
+    public ReplayReader(byte[] data) {
+        this(data, data.length);
+    }
+
+    public ReplayReader(byte[] data, int length) {
+        this.data = data;
+        this.length = length;
+        pos = 0;
+        int magic = (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+        if (magic != ReplayFormat.MAGIC) throw new GdxRuntimeException("Not a replay (bad magic)");
+        int version = readVarint();
+        if (version != ReplayFormat.VERSION) throw new GdxRuntimeException("Unsupported replay version " + version);
+        long s = 0;
+        for (int i = 0; i < 8; i++) s = (s << 8) | readByte();
+        seed = s;
+        simHz = readVarint();
+        bodyStart = pos;
+        rewind();
+    }
+
+    public long getSeed() { return seed; }
+    public int getSimHz() { return simHz; }
+    public float getStep() { return 1f / simHz; }
+
+    /** Steps played so far. */
+    public int getSteps() { return steps; }
+
+    /** Pauses the player took up to the current step. */
+    public int getPauses() { return pauses; }
+
+    /** True once the recording has no more steps. */
+    public boolean isEnded() { return ended; }
+
+    /** Back to the first step (call {@link #start} again to replay). */
+    public void rewind() {
+        pos = bodyStart;
+        moveX = moveY = aimX = aimY = 0;
+        repeats = 0;
+        steps = 0;
+        pauses = 0;
+        ended = false;
+    }
+
+    /** Rewind and reset the sim to the recorded seed. */
+    public void start(Simulation sim) {
+        rewind();
+        sim.reset(seed);
+    }
+
+    /**
+     * Apply what was recorded before the next step and fill its input.
+     * @return false at the end of the recording (input untouched)
+     */
+    public boolean next(Simulation sim, InputCommand out) {
+        while (repeats == 0) {
+            if (ended) return false;
+            if (pos >= length) { // truncated (the game was killed): play what we have
+                ended = true;
+                return false;
+            }
+            int tag = readByte();
+            if (tag < ReplayFormat.TAG_REPEAT) {
+                if ((tag & ReplayFormat.MOVE_X) != 0) moveX += ReplayFormat.unzigzag(readVarint());
+                if ((tag & ReplayFormat.MOVE_Y) != 0) moveY += ReplayFormat.unzigzag(readVarint());
+                if ((tag & ReplayFormat.AIM_X) != 0) aimX += ReplayFormat.unzigzag(readVarint());
+                if ((tag & ReplayFormat.AIM_Y) != 0) aimY += ReplayFormat.unzigzag(readVarint());
+                repeats = 1;
+            } else if (tag == ReplayFormat.TAG_REPEAT) {
+                repeats = readVarint();
+            } else if (tag == ReplayFormat.TAG_BOON) {
+                sim.chooseBoon(readVarint());
+            } else if (tag == ReplayFormat.TAG_PAUSE) {
+                pauses++;
+            } else if (tag == ReplayFormat.TAG_RESUME) {
+                // nothing to do: the sim doesn't step while paused
+            } else if (tag == ReplayFormat.TAG_VIEW) {
+                float w = Float.intBitsToFloat(readVarint());
+                float h = Float.intBitsToFloat(readVarint());
+                sim.setViewSize(w, h);
+            } else if (tag == ReplayFormat.TAG_END) {
+                ended = true;
+                return false;
+            } else {
+                throw new GdxRuntimeException("Corrupt replay: tag " + tag + " at byte " + (pos - 1));
+            }
+        }
+        repeats--;
+        steps++;
+        out.moveX = moveX / ReplayFormat.MOVE_SCALE;
+        out.moveY = moveY / ReplayFormat.MOVE_SCALE;
+        out.aimX = aimX / ReplayFormat.AIM_SCALE;
+        out.aimY = aimY / ReplayFormat.AIM_SCALE;
+        return true;
+    }
+
+    private int readByte() {
+        if (pos >= length) throw new GdxRuntimeException("Replay truncated at byte " + pos);
+        return data[pos++] & 0xFF;
+    }
+
+    private int readVarint() {
+        int v = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            v |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+        throw new GdxRuntimeException("Corrupt replay: varint too long at byte " + pos);
+    }
+}
@@ -0,0 +1,145 @@
+package com.rgs.swordsurvivor.replay;
+
+import com.rgs.swordsurvivor.sim.InputCommand;
+
+/**
+ * Encodes a run as it is played (see {@link ReplayFormat}).
+ *
+ * Records go into an in-memory chunk; full chunks are handed to a {@link Sink}, which takes
+ * ownership of the array (so it may write it out on another thread) and the writer starts a new
+ * one. A step costs a byte or two, so a chunk lasts minutes and nothing is allocated in between.
+ */
+public class ReplayWriter {
+    static final int CHUNK_SIZE = 8 * 1024;
+
+    /** Where finished chunks go. */
+    public interface Sink {
+        /** @param bytes now owned by the sink; valid bytes are 0..length-1 */
+        void write(byte[] bytes, int length);
+        void close();
+    }
+
+    private final Sink sink;
+    private byte[] buf = new byte[CHUNK_SIZE];
+    private int pos = 0;
+
+    private int moveX, moveY, aimX, aimY;   // quantized input of the previous step
+    private int pendingRepeats = 0;
+    private float viewW = Float.NaN, viewH = Float.NaN;
+    private int steps = 0;
+    private long bytes = 0;
+    private boolean closed = false;
+
+    public ReplayWriter(long seed, float simHz, Sink sink) {
+        this.sink = sink;
+        int m = ReplayFormat.MAGIC;
+        writeByte(m >>> 24); writeByte(m >>> 16); writeByte(m >>> 8); writeByte(m);
+        writeVarint(ReplayFormat.VERSION);
+        for (int shift = 56; shift >= 0; shift -= 8) writeByte((int)(seed >>> shift));
+        writeVarint(Math.round(simHz));
+    }
+
+    /**
+     * Record the input for the next step. Quantizes {@code in} first, in place: feed the sim
+     * the command after this call, or the replay will drift.
+     */
+    public void step(InputCommand in) {
+        ReplayFormat.quantize(in);
+        int mx = Math.round(in.moveX * ReplayFormat.MOVE_SCALE), my = Math.round(in.moveY * ReplayFormat.MOVE_SCALE);
+        int ax = Math.round(in.aimX * ReplayFormat.AIM_SCALE), ay = Math.round(in.aimY * ReplayFormat.AIM_SCALE);
+        int mask = (mx != moveX ? ReplayFormat.MOVE_X : 0) | (my != moveY ? ReplayFormat.MOVE_Y : 0)
+            | (ax != aimX ? ReplayFormat.AIM_X : 0) | (ay != aimY ? ReplayFormat.AIM_Y : 0);
+        steps++;
+        if (mask == 0) {
+            pendingRepeats++;
+            return;
+        }
+        flushRepeats();
+        reserve(1 + 4 * 5);
+        writeByte(mask);
+        if ((mask & ReplayFormat.MOVE_X) != 0) writeVarint(ReplayFormat.zigzag(mx - moveX));
+        if ((mask & ReplayFormat.MOVE_Y) != 0) writeVarint(ReplayFormat.zigzag(my - moveY));
+        if ((mask & ReplayFormat.AIM_X) != 0) writeVarint(ReplayFormat.zigzag(ax - aimX));
+        if ((mask & ReplayFormat.AIM_Y) != 0) writeVarint(ReplayFormat.zigzag(ay - aimY));
+        moveX = mx; moveY = my; aimX = ax; aimY = ay;
+    }
+
+    /** The player took boon {@code index} (before the next step). */
+    public void boon(int index) {
+        tagged(ReplayFormat.TAG_BOON);
+        writeVarint(index);
+    }
+
+    public void pause(boolean paused) {
+        tagged(paused ? ReplayFormat.TAG_PAUSE : ReplayFormat.TAG_RESUME);
+    }
+
+    /** Camera view size the sim is using; only written when it changed. */
+    public void view(float width, float height) {
+        if (width == viewW && height == viewH) return;
+        viewW = width;
+        viewH = height;
+        tagged(ReplayFormat.TAG_VIEW);
+        writeVarint(Float.floatToIntBits(width));
+        writeVarint(Float.floatToIntBits(height));
+    }
+
+    /** Mark the end, hand over the last chunk and close the sink. Further calls are ignored. */
+    public void close() {
+        if (closed) return;
+        tagged(ReplayFormat.TAG_END);
+        flushChunk();
+        sink.close();
+        closed = true;
+    }
+
+    /** Steps recorded so far. */
+    public int getSteps() { return steps; }
+
+    /** Encoded size so far, header included. */
+    public long getBytes() { return bytes + pos; }
+
+    private void tagged(int tag) {
+        if (closed) return;
+        flushRepeats();
+        reserve(1 + 2 * 5);
+        writeByte(tag);
+    }
+
+    private void flushRepeats() {
+        if (pendingRepeats == 0) return;
+        reserve(1 + 5);
+        if (pendingRepeats == 1) {
+            writeByte(0);
+        } else {
+            writeByte(ReplayFormat.TAG_REPEAT);
+            writeVarint(pendingRepeats);
+        }
+        pendingRepeats = 0;
+    }
+
+    /** Make room for a record of up to n bytes, handing the chunk over if it can't fit. */
+    private void reserve(int n) {
+        if (pos + n > buf.length) flushChunk();
+    }
+
+    private void flushChunk() {
+        if (pos == 0) return;
+        sink.write(buf, pos);
+        bytes += pos;
+        buf = new byte[CHUNK_SIZE];
+        pos = 0;
+    }
+
+    private void writeByte(int b) {
+        buf[pos++] = (byte)b;
+    }
+
+    private void writeVarint(int v) {
+        while ((v & ~0x7F) != 0) {
+            buf[pos++] = (byte)((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[pos++] = (byte)v;
+    }
+}
@@ -1,16 +1,18 @@
 package com.rgs.swordsurvivor.screens;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputMultiplexer;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
@@ -23,31 +25,40 @@ import com.badlogic.gdx.scenes.scene2d.ui.ImageButton.ImageButtonStyle;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
+import com.rgs.swordsurvivor.Platform;
 import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.assets.Assets;
+import com.rgs.swordsurvivor.assets.SpriteResidency;
 import com.rgs.swordsurvivor.boons.Boon;
 import com.rgs.swordsurvivor.boons.BoonCard;
-import com.rgs.swordsurvivor.boons.BoonType;
-import com.rgs.swordsurvivor.combat.CombatUtils;
-import com.rgs.swordsurvivor.entities.Brute;
-import com.rgs.swordsurvivor.entities.Enemy;
-import com.rgs.swordsurvivor.entities.FireOrb;
-import com.rgs.swordsurvivor.entities.Golem;
-import com.rgs.swordsurvivor.entities.Obby;
+import com.rgs.swordsurvivor.entities.EnemyStore;
 import com.rgs.swordsurvivor.entities.Orb;
 import com.rgs.swordsurvivor.entities.Player;
-import com.rgs.swordsurvivor.systems.Spawner;
-import com.rgs.swordsurvivor.ui.DamageText;
+import com.rgs.swordsurvivor.metrics.Counter;
+import com.rgs.swordsurvivor.metrics.Gauge;
+import com.rgs.swordsurvivor.metrics.LatencyHistogram;
+import com.rgs.swordsurvivor.metrics.Metrics;
+import com.rgs.swordsurvivor.metrics.MetricsExporter;
+import com.rgs.swordsurvivor.replay.AsyncFileSink;
+import com.rgs.swordsurvivor.replay.ReplayReader;
+import com.rgs.swordsurvivor.replay.ReplayWriter;
+import com.rgs.swordsurvivor.sim.BotPlayer;
+import com.rgs.swordsurvivor.sim.InputCommand;
+import com.rgs.swordsurvivor.sim.Simulation;
+import com.rgs.swordsurvivor.ui.DamageNumbers;
 import com.rgs.swordsurvivor.ui.GameOverMenu;
+import com.rgs.swordsurvivor.ui.HudText;
 import com.rgs.swordsurvivor.ui.PauseMenu;
+import com.rgs.swordsurvivor.ui.PerfOverlay;
 import com.rgs.swordsurvivor.ui.VirtualJoystick;
 import com.rgs.swordsurvivor.ui.WaveBanner;
-import com.rgs.swordsurvivor.util.RenderUtils;
-
-import java.util.EnumSet;
-import java.util.Random;
+import com.rgs.swordsurvivor.util.FixedTimestep;
+import com.rgs.swordsurvivor.util.PhaseTimer;
 
 public class GameScreen implements Screen {
 
@@ -56,31 +67,50 @@ public class GameScreen implements Screen {
     // World rendering
     private final ExtendViewport viewport;
     private final Stage stage;
-    private final ShapeRenderer shapes = new ShapeRenderer();
+    private final ShapeRenderer shapes;
     private final SpriteBatch batch;
 
     // UI rendering
     private final ScreenViewport uiViewport;
     private final Stage uiStage;
 
-    // Textures
-    private Texture texPlayer, texEnemy, texEnemy2, texEnemy3, texEnemy4, texEnemy5, texSword;
-    private Texture pauseIconTex;
+    // Textures come from the game's shared cache (loaded on the first run, reused after); given back in dispose()
+    private final Assets.Scope assets;
+
+    // Sprites: the player, sword, orbs and early enemies share one atlas page; the late-wave enemies'
+    // pages are loaded as their waves come near and dropped with the run
+    private TextureAtlas atlas;
+    private TextureRegion regPlayer, regSword, regOrb;
+    private final SpriteResidency enemySprites;
+
+    // Simulation (all gameplay) + the fixed-step clock that drives it
+    private final Simulation sim;
+    private final InputCommand input = new InputCommand();
+    private final FixedTimestep timestep = new FixedTimestep(SwordSurvivorGame.SIM_HZ, SwordSurvivorGame.MAX_SIM_SUBSTEPS);
+    private final Vector2 aim = new Vector2();
+    private final Vector3 unproject = new Vector3();
+    private boolean paused = false;
 
-    // Entities / systems / state
-    private final Array<Enemy> enemies = new Array<>();
-    private final Array<Orb> orbs = new Array<>();
-    private final Spawner spawner = new Spawner();
-    private final Random rng = new Random();
-    private Player player;
+    // Every live run is recorded to replays/last.ssr; a replay screen plays one back instead
+    public static final int MAX_REPLAY_SPEED = 64;
+    private final ReplayReader replay;
+    private int replaySpeed = 1;
+    private ReplayWriter recorder;
 
-    private int kills = 0;
-    private boolean gameOver = false;
-    private boolean paused = false;
+    // Plays instead of the keyboard/joysticks when the game was started with a bot (desktop --bot)
+    private final BotPlayer bot;
 
-    // Level up overlay
-    private boolean levelUpPending = false;
-    private BoonCard[] boonChoices = new BoonCard[3];
+    // Perf overlay (F3) and the phases of render() it reports
+    private static final int PHASE_UPDATE = 0, PHASE_WORLD = 1, PHASE_STAGE = 2, PHASE_UI = 3;
+    private final PhaseTimer frameTimer = new PhaseTimer("update", "world", "stage", "ui");
+    private PerfOverlay perf;
+    private int stepsThisFrame = 0;
+
+    // Soak metrics (sim's registry), exported only when the game was started with a metrics file
+    private MetricsExporter metricsExporter;
+    private LatencyHistogram frameDelta, frameNanos, updateNanos, drawNanos;
+    private Counter spriteCalls;
+    private int lastTotalRenderCalls;
 
     // UI components
     private PauseMenu pauseMenu;
@@ -88,12 +118,39 @@ public class GameScreen implements Screen {
     private ImageButton pauseBtn;
     private VirtualJoystick leftJoy, rightJoy;
 
-    private int lastAnnouncedWave = 0;
-    private final GlyphLayout layout = new GlyphLayout();
+    // HUD text: rebuilt into reused builders each frame, laid out again only when it changes
+    private static final Color BOON_TITLE = Color.valueOf("B3E5FC");
+    private final HudText statsText = new HudText();
+    private final HudText crosshair = new HudText("+");
+    private final HudText pausedText = new HudText("[PAUSED]").setColor(Color.LIGHT_GRAY);
+    private final HudText replayText = new HudText().setColor(Color.LIGHT_GRAY);
+    private final HudText levelUpHeader = new HudText("Level Up! Choose a Boon (1 / 2 / 3)").setScale(1.2f);
+    private final HudText[] boonTitles = new HudText[3];
+    private final HudText[] boonDescs = new HudText[3];
+
+    // Floating damage numbers, drawn in one pass over the world
+    private final DamageNumbers damageNumbers = new DamageNumbers();
 
     public GameScreen(SwordSurvivorGame game) {
+        this(game, null, 1);
+    }
+
+    /**
+     * @param replay recording to play back instead of reading input (null for a live run)
+     * @param speed steps per real-time step while replaying, 1..{@link #MAX_REPLAY_SPEED}
+     */
+    public GameScreen(SwordSurvivorGame game, ReplayReader replay, int speed) {
         this.game = game;
+        this.replay = replay;
+        for (int i = 0; i < boonTitles.length; i++) {
+            boonTitles[i] = new HudText().setColor(BOON_TITLE).setScale(1.1f);
+            boonDescs[i] = new HudText().setColor(Color.LIGHT_GRAY).setScale(0.95f);
+        }
+        this.bot = replay == null && game.isBotPlaying() ? new BotPlayer() : null;
+        this.replaySpeed = MathUtils.clamp(speed, 1, MAX_REPLAY_SPEED);
         this.batch = game.batch;
+        this.shapes = game.shapes;
+        this.assets = game.assets.scope();
 
         viewport = new ExtendViewport(SwordSurvivorGame.VIEW_WIDTH, SwordSurvivorGame.VIEW_HEIGHT);
         stage = new Stage(viewport, batch);
@@ -105,21 +162,23 @@ public class GameScreen implements Screen {
         Gdx.input.setInputProcessor(new InputMultiplexer(uiStage, stage));
 
         // Menus (world stage)
-        pauseMenu = new PauseMenu(game.font, new PauseMenu.Listener() {
+        pauseMenu = new PauseMenu(game.font, assets, new PauseMenu.Listener() {
             @Override public void onResume()  { togglePause(false); }
             @Override public void onRestart() { init(); togglePause(false); }
             @Override public void onMainMenu(){ game.setScreen(new MenuScreen(game)); }
         });
         stage.addActor(pauseMenu);
 
-        gameOverMenu = new GameOverMenu(game.font, new GameOverMenu.Listener() {
+        gameOverMenu = new GameOverMenu(game.font, assets, new GameOverMenu.Listener() {
             @Override public void onRestart() { init(); }
             @Override public void onMainMenu(){ game.setScreen(new MenuScreen(game)); }
         });
         stage.addActor(gameOverMenu);
 
         // Pause button: transparent background (icon only), 3× size
-        pauseIconTex = makePauseIcon(96, 1f, 1f, 1f, 1f); // draw at higher res so it stays crisp
+        Texture pauseIconTex = assets.acquire("ui:pause-icon", new Assets.Loader<Texture>() {
+            @Override public Texture load() { return makePauseIcon(96, 1f, 1f, 1f, 1f); } // higher res so it stays crisp
+        });
         ImageButtonStyle pStyle = new ImageButtonStyle();
         TextureRegionDrawable icon = new TextureRegionDrawable(new TextureRegion(pauseIconTex));
         pStyle.up = icon; pStyle.over = icon; pStyle.down = icon;
@@ -128,21 +187,21 @@ public class GameScreen implements Screen {
         pauseBtn.setSize(44f * 3f, 44f * 3f);
         pauseBtn.addListener(new ClickListener() {
             @Override public void clicked(InputEvent event, float x, float y) {
-                if (!levelUpPending && !gameOver) togglePause(true);
+                if (!sim.isLevelUpPending() && !sim.isGameOver()) togglePause(true);
             }
         });
         uiStage.addActor(pauseBtn);
 
         // Touch joysticks
-        leftJoy  = new VirtualJoystick(64f, 28f, 6f);
-        rightJoy = new VirtualJoystick(64f, 28f, 6f);
+        leftJoy  = new VirtualJoystick(assets, 64f, 28f, 6f);
+        rightJoy = new VirtualJoystick(assets, 64f, 28f, 6f);
         uiStage.addActor(leftJoy);
         uiStage.addActor(rightJoy);
 
         // Joystick activation by side-of-screen tap
         uiStage.addListener(new com.badlogic.gdx.scenes.scene2d.InputListener() {
             @Override public boolean touchDown (InputEvent event, float x, float y, int pointer, int button) {
-                if (paused || gameOver || levelUpPending) return false;
+                if (paused || sim.isGameOver() || sim.isLevelUpPending()) return false;
                 float cx = uiStage.getCamera().position.x;
                 if (x <= cx) { if (!leftJoy.isActive()) leftJoy.activate(pointer, x, y); }
                 else         { if (!rightJoy.isActive()) rightJoy.activate(pointer, x, y); }
@@ -158,14 +217,39 @@ public class GameScreen implements Screen {
             }
         });
 
-        // Textures
-        texPlayer = new Texture(Gdx.files.internal("player.png"));
-        texEnemy  = new Texture(Gdx.files.internal("enemy.png"));
-        texEnemy2 = new Texture(Gdx.files.internal("enemy2.png")); // Brute
-        texEnemy3 = new Texture(Gdx.files.internal("enemy3.png")); // Golem
-        texEnemy4 = new Texture(Gdx.files.internal("enemy4.png")); // Obby
-        texEnemy5 = new Texture(Gdx.files.internal("enemy5.png")); // FireOrb
-        texSword  = new Texture(Gdx.files.internal("sword.png"));
+        // Sprites (packed from assets-raw/sprites by the packTextures task)
+        atlas = assets.atlas("sprites.atlas");
+        regPlayer = findRegion("player");
+        regSword  = findRegion("sword");
+        regOrb    = findRegion("orb");
+        enemySprites = new SpriteResidency(game.assets, "sprites.atlas", atlas);
+
+        sim = new Simulation();
+        sim.setJobs(game.platform.jobs);
+        sim.setListener(new Simulation.Adapter() {
+            @Override public void onWaveStarted(int wave) {
+                Player p = sim.getPlayer();
+                stage.addActor(new WaveBanner(game.font, "Wave " + wave + "!", p.pos, p.size + 32f, 1.25f));
+            }
+            @Override public void onPlayerHit(int damage) { game.playSfx(game.sfxPlayerHit); }
+            @Override public void onPlayerDied(int kills) {
+                if (recorder != null) recorder.close(); // the run is over: make the file complete
+                if (replay == null) game.maybeSetHighscore(kills);
+                gameOverMenu.setScores(kills, game.getHighscoreKills());
+                gameOverMenu.show();
+            }
+            @Override public void onEnemyHit(float x, float y, int damage, boolean crit) {
+                game.playSfx(game.sfxEnemyHit);
+                damageNumbers.add(x, y, damage, crit); // orange if crit, otherwise white
+            }
+            @Override public void onOrbPickup(int xp) { game.playSfx(game.sfxPickup); }
+            @Override public void onLevelUp(int level) { game.playSfx(game.sfxLevel); }
+        });
+
+        game.font.getData().setScale(1f); // the HUD's scale, which the numbers are captured at
+        damageNumbers.setFont(game.font);
+        perf = new PerfOverlay(sim, frameTimer, game.platform.gc);
+        registerMetrics();
 
         init();
     }
@@ -173,20 +257,36 @@ public class GameScreen implements Screen {
     // --- Init / lifecycle ---
 
     private void init() {
-        player = new Player(new Vector2(SwordSurvivorGame.WORLD_WIDTH/2f, SwordSurvivorGame.WORLD_HEIGHT/2f));
-        enemies.clear();
-        orbs.clear();
-        spawner.reset();
-        kills = 0;
-        gameOver = false;
-        levelUpPending = false;
         paused = false;
+        timestep.reset();
+        damageNumbers.clear();
 
         pauseMenu.hide();
         gameOverMenu.hide();
 
-        lastAnnouncedWave = 1;
-        stage.addActor(new WaveBanner(game.font, "Wave 1!", player.pos, player.size + 32f, 1.25f));
+        // Both announce "Wave 1!"
+        if (replay != null) {
+            replay.start(sim);
+        } else {
+            sim.reset();
+            if (bot != null) bot.reset();
+            startRecording();
+        }
+        if (metricsExporter != null) metricsExporter.startRun(sim.getSeed());
+    }
+
+    /** Record the run that just started; the previous one is kept as replays/prev.ssr. */
+    private void startRecording() {
+        if (recorder != null) recorder.close();
+        recorder = null;
+        if (Gdx.app.getType() == Application.ApplicationType.WebGL) return; // no local files
+        try {
+            FileHandle last = Gdx.files.local("replays/last.ssr");
+            if (last.exists()) last.moveTo(Gdx.files.local("replays/prev.ssr"));
+            recorder = new ReplayWriter(sim.getSeed(), SwordSurvivorGame.SIM_HZ, new AsyncFileSink(last));
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("GameScreen", "Replay recording disabled", e);
+        }
     }
 
     @Override public void show() {
@@ -197,19 +297,27 @@ public class GameScreen implements Screen {
 
     @Override
     public void render(float delta) {
+        boolean timed = sim.getMetrics().isEnabled();
+        long frameStart = timed ? TimeUtils.nanoTime() : 0L;
+        frameTimer.start();
+        stepsThisFrame = 0;
         handleGlobalInput();
 
         // Camera follow & clamp to world
-        float halfW = viewport.getWorldWidth()/2f;
-        float halfH = viewport.getWorldHeight()/2f;
-        float camX = MathUtils.clamp(player.pos.x, halfW, SwordSurvivorGame.WORLD_WIDTH - halfW);
-        float camY = MathUtils.clamp(player.pos.y, halfH, SwordSurvivorGame.WORLD_HEIGHT - halfH);
+        Player player = sim.getPlayer();
+        if (replay == null) {
+            sim.setViewSize(viewport.getWorldWidth(), viewport.getWorldHeight());
+            if (recorder != null) recorder.view(viewport.getWorldWidth(), viewport.getWorldHeight());
+        }
+        float alpha = timestep.getAlpha();
+        float camX = sim.cameraX(MathUtils.lerp(player.prevPos.x, player.pos.x, alpha));
+        float camY = sim.cameraY(MathUtils.lerp(player.prevPos.y, player.pos.y, alpha));
         stage.getCamera().position.set(camX, camY, 0f);
         stage.getCamera().update();
 
         // Center menus on camera view
         pauseMenu.centerOnCamera(viewport, stage.getCamera());
-        if (gameOver) gameOverMenu.centerOnCamera(viewport, stage.getCamera());
+        if (sim.isGameOver()) gameOverMenu.centerOnCamera(viewport, stage.getCamera());
 
         // Pause button in UI top-right
         float uvw = uiViewport.getWorldWidth();
@@ -220,7 +328,7 @@ public class GameScreen implements Screen {
         pauseBtn.setPosition(left + uvw - pauseBtn.getWidth() - 10f,
             bottom + uvh - pauseBtn.getHeight() - 10f);
 
-        boolean hudVisible = !paused && !levelUpPending && !gameOver;
+        boolean hudVisible = !paused && !sim.isLevelUpPending() && !sim.isGameOver();
         pauseBtn.setVisible(hudVisible);
         leftJoy.setVisible(hudVisible && leftJoy.isActive());
         rightJoy.setVisible(hudVisible && rightJoy.isActive());
@@ -230,55 +338,124 @@ public class GameScreen implements Screen {
         Gdx.gl.glClearColor(0,0,0,1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        // Update
-        if (!gameOver && !levelUpPending && !paused) update(delta);
+        // Update: whole fixed steps only; a level-up, pause or death mid-frame drops the rest
+        if (replay != null) {
+            stepReplay(delta);
+        } else if (!sim.isGameOver() && !sim.isLevelUpPending() && !paused) {
+            int steps = timestep.advance(delta);
+            if (steps > 0 && bot == null) readInput();
+            for (int s = 0; s < steps && !sim.isGameOver() && !sim.isLevelUpPending(); s++) {
+                if (bot != null) bot.think(sim, input);
+                if (recorder != null) recorder.step(input); // quantizes input: record before stepping
+                sim.step(input, timestep.getStep());
+                stepsThisFrame++;
+            }
+        }
+        frameTimer.mark(PHASE_UPDATE);
+        long drawStart = timed ? TimeUtils.nanoTime() : 0L;
+        if (timed) updateNanos.record(drawStart - frameStart);
 
         // Draw world
+        damageNumbers.update(delta);
         shapes.setProjectionMatrix(stage.getCamera().combined);
         batch.setProjectionMatrix(stage.getCamera().combined);
+        enemySprites.update(sim.getWave(), sim.enemies);
         drawWorld();
+        frameTimer.mark(PHASE_WORLD);
         drawHUD();
+        frameTimer.mark(PHASE_UI);
 
         // Stages
         stage.act(delta);
         stage.draw();
+        frameTimer.mark(PHASE_STAGE);
 
         uiStage.act(delta);
         uiStage.draw();
 
-        // Level-up overlay last
-        if (levelUpPending) drawLevelUpOverlay();
+        // Level-up overlay last (a replay makes its own picks)
+        if (sim.isLevelUpPending() && replay == null) drawLevelUpOverlay();
+        frameTimer.mark(PHASE_UI);
+
+        perf.endFrame(delta, batch, stepsThisFrame, timestep.getDroppedSteps(),
+            stage.getActors().size + uiStage.getActors().size);
+
+        if (timed) {
+            long now = TimeUtils.nanoTime();
+            drawNanos.record(now - drawStart);
+            frameNanos.record(now - frameStart);
+            frameDelta.record((long)(delta * 1e9f));
+            spriteCalls.add(batch.totalRenderCalls - lastTotalRenderCalls);
+        }
+        lastTotalRenderCalls = batch.totalRenderCalls;
+        if (metricsExporter != null) metricsExporter.update(delta);
+    }
+
+    /** Frame/render metrics next to the sim's, and the exporter if the game asked for one. */
+    private void registerMetrics() {
+        Metrics m = sim.getMetrics();
+        frameDelta = m.histogram("frame.delta_ns");
+        frameNanos = m.histogram("frame.cpu_ns");
+        updateNanos = m.histogram("frame.update_ns");
+        drawNanos = m.histogram("frame.draw_ns");
+        spriteCalls = m.counter("render.sprite_calls");
+        m.gauge("frame.dropped_steps", new Gauge() { @Override public double value() { return timestep.getDroppedSteps(); } });
+        m.gauge("damage_numbers", new Gauge() { @Override public double value() { return damageNumbers.size(); } });
+        m.gauge("stage.actors", new Gauge() { @Override public double value() { return stage.getActors().size + uiStage.getActors().size; } });
+        m.gauge("assets.loads", new Gauge() { @Override public double value() { return game.assets.loads(); } });
+        m.gauge("assets.texture_bytes", new Gauge() { @Override public double value() { return game.assets.textureBytes(); } });
+        m.gauge("sprites.streamed_pages", new Gauge() { @Override public double value() { return enemySprites.residentPages(); } });
+        m.gauge("sprites.misses", new Gauge() { @Override public double value() { return enemySprites.misses(); } });
+        m.gauge("heap.bytes", new Gauge() { @Override public double value() { return Gdx.app.getJavaHeap(); } });
+        final Platform.GcStats gc = game.platform.gc;
+        if (gc != null) {
+            m.gauge("gc.count", new Gauge() { @Override public double value() { return gc.collections(); } });
+            m.gauge("gc.ms", new Gauge() { @Override public double value() { return gc.collectionMillis(); } });
+        }
+
+        try {
+            metricsExporter = game.openMetricsExporter(m);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("GameScreen", "Metrics export disabled", e);
+        }
     }
 
     @Override public void resize(int width, int height) { viewport.update(width, height, true); uiViewport.update(width, height, true); }
     @Override public void pause()  {}
     @Override public void resume() {}
-    @Override public void hide()   {}
+    @Override
+    public void hide() { // leaving for the menu, or the app is closing
+        if (recorder != null) recorder.close();
+        if (metricsExporter != null) {
+            metricsExporter.close();
+            metricsExporter = null;
+        }
+    }
 
     @Override
-    public void dispose() {
-        shapes.dispose();
+    public void dispose() { // by the game, the frame after another screen replaced this one
         stage.dispose();
         uiStage.dispose();
-        texPlayer.dispose();
-        texEnemy.dispose();
-        texEnemy2.dispose();
-        texEnemy3.dispose();
-        texEnemy4.dispose();
-        texEnemy5.dispose();
-        texSword.dispose();
-        if (pauseIconTex != null) pauseIconTex.dispose();
+        enemySprites.dispose();
+        assets.close();
     }
 
     // --- Update / gameplay ---
 
     private void handleGlobalInput() {
-        if (gameOver) {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) perf.setVisible(!perf.isVisible());
+        if (replay != null) {
+            if (Gdx.input.isKeyJustPressed(Input.Keys.EQUALS) || Gdx.input.isKeyJustPressed(Input.Keys.PLUS)) {
+                replaySpeed = Math.min(MAX_REPLAY_SPEED, replaySpeed * 2);
+            }
+            if (Gdx.input.isKeyJustPressed(Input.Keys.MINUS)) replaySpeed = Math.max(1, replaySpeed / 2);
+        }
+        if (sim.isGameOver()) {
             if (Gdx.input.isKeyJustPressed(Input.Keys.R))       { init(); return; }
             if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE))  { game.setScreen(new MenuScreen(game)); return; }
             return;
         }
-        if (levelUpPending) return;
+        if (sim.isLevelUpPending()) return;
 
         if (paused) {
             if (Gdx.input.isKeyJustPressed(Input.Keys.P))       { togglePause(false); return; }
@@ -293,247 +470,168 @@ public class GameScreen implements Screen {
     }
 
     private void togglePause(boolean makePaused) {
+        if (recorder != null && paused != makePaused) recorder.pause(makePaused);
         paused = makePaused;
         if (paused) pauseMenu.show(); else pauseMenu.hide();
     }
 
-    private void update(float dt) {
+    /** Feed recorded steps, replaySpeed of them per real-time step (fast-forward for profiling). */
+    private void stepReplay(float delta) {
+        if (paused || sim.isGameOver() || replay.isEnded()) return;
+        int steps = timestep.advance(delta) * replaySpeed;
+        for (int s = 0; s < steps && !sim.isGameOver(); s++) {
+            if (!replay.next(sim, input)) break; // applies recorded boon picks first
+            sim.step(input, replay.getStep());
+            stepsThisFrame++;
+        }
+    }
+
+    /** Sample keyboard/mouse/joysticks into this frame's InputCommand. */
+    private void readInput() {
         // Movement (joystick overrides keyboard)
-        Vector2 move = new Vector2();
+        float mx = 0f, my = 0f;
         if (leftJoy.isActive()) {
-            move.set(leftJoy.getValue());
-            if (move.len2() > 1f) move.nor();
+            mx = leftJoy.getValue().x;
+            my = leftJoy.getValue().y;
         } else {
-            if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT))  move.x -= 1;
-            if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) move.x += 1;
-            if (Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP))    move.y += 1;
-            if (Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN))  move.y -= 1;
-            if (move.len2() > 1f) move.nor();
-        }
-        if (!move.isZero()) {
-            move.nor().scl(player.speed * dt);
-            player.pos.add(move);
-            if (move.x < 0) player.facingLeft = true;
-            else if (move.x > 0) player.facingLeft = false;
+            if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT))  mx -= 1;
+            if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) mx += 1;
+            if (Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP))    my += 1;
+            if (Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN))  my -= 1;
         }
+        input.moveX = mx;
+        input.moveY = my;
 
         // Aim (right joystick overrides mouse)
-        Vector2 aim = getAimWorld();
-        player.update(dt, aim);
-
-        // Clamp player inside world
-        float half = player.size * 0.5f;
-        player.pos.x = MathUtils.clamp(player.pos.x, half, SwordSurvivorGame.WORLD_WIDTH  - half);
-        player.pos.y = MathUtils.clamp(player.pos.y, half, SwordSurvivorGame.WORLD_HEIGHT - half);
-
-        // Spawning
-        spawner.update(dt);
-        int currentWave = spawner.getWave();
-        if (currentWave > lastAnnouncedWave) {
-            stage.addActor(new WaveBanner(game.font, "Wave " + currentWave + "!", player.pos, player.size + 32f, 1.25f));
-            lastAnnouncedWave = currentWave;
-        }
-        while (spawner.shouldSpawn()) {
-            enemies.add(spawner.spawnEnemyAroundView(stage.getCamera().position.x, stage.getCamera().position.y,
-                viewport.getWorldWidth(), viewport.getWorldHeight()));
-        }
-
-        // Enemies
-        for (int i = enemies.size - 1; i >= 0; i--) {
-            Enemy e = enemies.get(i);
-            e.update(dt, player.pos);
-
-            // Sprite flip toward player
-            if (player.pos.x < e.pos.x) e.facingLeft = true; else if (player.pos.x > e.pos.x) e.facingLeft = false;
-
-            // Touch damage
-            if (e.collidesWithPlayer(player)) {
-                if (player.hurtCooldown <= 0f) {
-                    player.hp -= e.touchDamage;
-                    player.hurtCooldown = 0.6f;
-                    player.hurtTimer = 0.2f;
-                    game.playSfx(game.sfxPlayerHit);
-                    if (player.hp <= 0) {
-                        gameOver = true;
-                        game.maybeSetHighscore(kills);
-                        gameOverMenu.setScores(kills, game.getHighscoreKills());
-                        gameOverMenu.show();
-                    }
-                }
-            }
-
-            // Sword hits
-            if (player.swing.active && CombatUtils.swordHitsEnemyThisFrame(player, e)) {
-                if (e.lastHitSwingId != player.swing.id) {
-                    // --- CRIT ROLL ---
-                    boolean crit = com.badlogic.gdx.math.MathUtils.random() < player.critChance;
-                    int dealt = crit ? player.damage * 2 : player.damage;
-
-                    e.hp -= dealt;
-                    e.lastHitSwingId = player.swing.id;
-                    e.hurtTimer = 0.2f;
-                    game.playSfx(game.sfxEnemyHit);
-
-                    // Yellow text if crit, otherwise orange
-                    Color dmgColor = crit ? Color.ORANGE : Color.WHITE;
-                    stage.addActor(new DamageText(game.font, String.valueOf(dealt),
-                        e.pos.x, e.pos.y + e.size * 0.6f, dmgColor));
-
-                    // Death
-                    if (e.hp <= 0) {
-                        enemies.removeIndex(i);
-                        kills++;
-
-                        int orbValue = 1 + spawner.getWave()/2;
-                        if (e instanceof FireOrb) {
-                            float r = 32f;
-                            for (int k = 0; k < 30; k++) {
-                                float ang = (float)(Math.PI * 2 * k / 30.0);
-                                orbs.add(new Orb(new Vector2(e.pos.x + MathUtils.cos(ang)*r,
-                                    e.pos.y + MathUtils.sin(ang)*r), orbValue));
-                            }
-                        } else if (e instanceof Obby) {
-                            float r = 26f;
-                            for (int k = 0; k < 15; k++) {
-                                float ang = (float)(Math.PI * 2 * k / 15.0);
-                                orbs.add(new Orb(new Vector2(e.pos.x + MathUtils.cos(ang)*r,
-                                    e.pos.y + MathUtils.sin(ang)*r), orbValue));
-                            }
-                        } else if (e instanceof Golem) {
-                            float r = 20f;
-                            for (int k = 0; k < 8; k++) {
-                                float ang = (float)(Math.PI * 2 * k / 8.0);
-                                orbs.add(new Orb(new Vector2(e.pos.x + MathUtils.cos(ang)*r,
-                                    e.pos.y + MathUtils.sin(ang)*r), orbValue));
-                            }
-                        } else if (e instanceof Brute) {
-                            float r = 15f;
-                            for (int k = 0; k < 5; k++) {
-                                float ang = (float)(Math.PI * 2 * k / 3.0);
-                                orbs.add(new Orb(new Vector2(e.pos.x + MathUtils.cos(ang)*r,
-                                    e.pos.y + MathUtils.sin(ang)*r), orbValue));
-                            }
-                        } else {
-                            orbs.add(new Orb(e.pos.cpy(), orbValue));
-                        }
-                    }
-                }
-            }
-        }
-
-        // Orbs
-        for (int i = orbs.size - 1; i >= 0; i--) {
-            Orb o = orbs.get(i);
-            o.update(dt, player.pos, player.pickupRange);
-            if (o.canPickup(player.pos, player.pickupRange)) {
-                game.playSfx(game.sfxPickup);
-                int xpGain = Math.round(o.value * player.xpGain);
-                if (player.gainXP(xpGain)) {
-                    rollBoonChoices();
-                    levelUpPending = true;
-                    game.playSfx(game.sfxLevel);
-                }
-                orbs.removeIndex(i);
-            }
-        }
+        Vector2 a = getAimWorld();
+        input.aimX = a.x;
+        input.aimY = a.y;
     }
 
     // --- Draw ---
 
     private void drawWorld() {
+        Player player = sim.getPlayer();
+        EnemyStore enemies = sim.enemies;
+
+        // Everything is drawn between the last two sim steps
+        float alpha = timestep.getAlpha();
+
+        // Visible world rect; anything entirely outside it is skipped
+        float viewL = stage.getCamera().position.x - viewport.getWorldWidth()/2f;
+        float viewB = stage.getCamera().position.y - viewport.getWorldHeight()/2f;
+        float viewR = viewL + viewport.getWorldWidth();
+        float viewT = viewB + viewport.getWorldHeight();
+
         // Play area background
         shapes.begin(ShapeRenderer.ShapeType.Filled);
         shapes.setColor(0.10f, 0.12f, 0.14f, 1f);
         shapes.rect(0, 0, SwordSurvivorGame.WORLD_WIDTH, SwordSurvivorGame.WORLD_HEIGHT);
-
-        // XP orbs
-        shapes.setColor(Color.YELLOW);
-        for (Orb o : orbs) shapes.circle(o.pos.x, o.pos.y, o.radius);
         shapes.end();
 
         // Sprites
         batch.begin();
 
+        // XP orbs: glow sprite, its core is half the sprite's width
+        Array<Orb> orbs = sim.orbs;
+        for (int i = 0; i < orbs.size; i++) {
+            Orb o = orbs.get(i);
+            float x = MathUtils.lerp(o.prevPos.x, o.pos.x, alpha);
+            float y = MathUtils.lerp(o.prevPos.y, o.pos.y, alpha);
+            float half = o.radius * 2f;
+            if (x + half < viewL || x - half > viewR || y + half < viewB || y - half > viewT) continue;
+            batch.draw(regOrb, x - half, y - half, half * 2f, half * 2f);
+        }
+
+        float px = MathUtils.lerp(player.prevPos.x, player.pos.x, alpha);
+        float py = MathUtils.lerp(player.prevPos.y, player.pos.y, alpha);
+
         // Sword (stretched/rotated)
         if (player.swing.active) {
-            Vector2 p0 = player.pos;
-            Vector2 p1 = CombatUtils.endOfSword(player);
-            float dx = p1.x - p0.x, dy = p1.y - p0.y;
-            float length = (float)Math.sqrt(dx*dx + dy*dy);
-            float angle = (float)Math.toDegrees(Math.atan2(dy, dx));
-
-            batch.draw(texSword,
-                p0.x, p0.y - player.swordThickness/2f,
+            float angle = MathUtils.lerp(player.swing.prevAngleDeg, player.swing.currentAngleDeg, alpha);
+
+            batch.draw(regSword,
+                px, py - player.swordThickness/2f,
                 0, player.swordThickness/2f,      // origin for rotation
-                length, player.swordThickness,     // size
+                player.swordReach, player.swordThickness, // size
                 1f, 1f,
-                angle,
-                0, 0, texSword.getWidth(), texSword.getHeight(),
-                false, false);
+                angle);
         }
 
         // Player
         batch.setColor(player.hurtTimer > 0f ? Color.RED : Color.WHITE);
         if (!player.facingLeft) {
-            batch.draw(texPlayer, player.pos.x - player.size/2f, player.pos.y - player.size/2f, player.size, player.size);
+            batch.draw(regPlayer, px - player.size/2f, py - player.size/2f, player.size, player.size);
         } else {
-            batch.draw(texPlayer, player.pos.x + player.size/2f, player.pos.y - player.size/2f, -player.size, player.size);
+            batch.draw(regPlayer, px + player.size/2f, py - player.size/2f, -player.size, player.size);
         }
 
-        // Enemies
-        for (Enemy e : enemies) {
-            batch.setColor(e.hurtTimer > 0f ? Color.RED : Color.WHITE);
-            Texture tex = texEnemy;
-            if (e instanceof FireOrb) tex = texEnemy5;
-            else if (e instanceof Obby) tex = texEnemy4;
-            else if (e instanceof Golem) tex = texEnemy3;
-            else if (e instanceof Brute) tex = texEnemy2;
-
-            if (!e.facingLeft) {
-                batch.draw(tex, e.pos.x - e.size/2f, e.pos.y - e.size/2f, e.size, e.size);
-            } else {
-                batch.draw(tex, e.pos.x + e.size/2f, e.pos.y - e.size/2f, -e.size, e.size);
+        // Enemies, one pass per atlas page (one texture switch each): later waves' types draw on top
+        for (int page = 0; page < enemySprites.pageCount(); page++) {
+            if (enemySprites.aliveOnPage(page) == 0) continue;
+            for (int i = 0; i < enemies.size; i++) {
+                if (enemySprites.pageOf(enemies.type[i]) != page) continue;
+                float x = MathUtils.lerp(enemies.prevX[i], enemies.x[i], alpha);
+                float y = MathUtils.lerp(enemies.prevY[i], enemies.y[i], alpha);
+                float size = enemies.sizeOf(i);
+                float half = size/2f;
+                if (x + half < viewL || x - half > viewR || y + half < viewB || y - half > viewT) continue; // spawns wait just off-screen
+
+                batch.setColor(enemies.hurtTimer[i] > 0f ? Color.RED : Color.WHITE);
+                TextureRegion region = enemySprites.region(enemies.type[i]);
+
+                if (!enemies.facingLeft[i]) {
+                    batch.draw(region, x - size/2f, y - size/2f, size, size);
+                } else {
+                    batch.draw(region, x + size/2f, y - size/2f, -size, size);
+                }
             }
         }
         batch.setColor(Color.WHITE);
 
+        // Damage numbers above everything else in the world (the font's page: one more draw call)
+        damageNumbers.draw(batch);
+
         batch.end();
     }
 
     private void drawHUD() {
+        Player player = sim.getPlayer();
         batch.begin();
         BitmapFont f = game.font;
         f.setColor(Color.WHITE);
         f.getData().setScale(1f);
 
-        String stats = "HP: " + player.hp +
-            "  |  Lvl: " + player.level +
-            " (XP " + player.xp + "/" + player.xpToNext + ")" +
-            "  |  Kills: " + kills +
-            "  |  Wave: " + spawner.getWave();
+        statsText.begin().append("HP: ").append(player.hp)
+            .append("  |  Lvl: ").append(player.level)
+            .append(" (XP ").append(player.xp).append('/').append(player.xpToNext).append(')')
+            .append("  |  Kills: ").append(sim.getKills())
+            .append("  |  Wave: ").append(sim.getWave());
 
         float left = stage.getCamera().position.x - viewport.getWorldWidth()/2f + 10f;
         float top  = stage.getCamera().position.y + viewport.getWorldHeight()/2f - 10f;
-        f.draw(batch, stats, left, top);
+        statsText.draw(batch, f, left, top);
 
         // Crosshair when mouse/keyboard aiming
         if (!(rightJoy != null && rightJoy.isActive())) {
             Vector2 m = getAimWorld();
-            f.draw(batch, "+", m.x - 3, m.y + 4);
+            crosshair.draw(batch, f, m.x - 3, m.y + 4);
         }
 
-        if (paused) {
-            f.setColor(Color.LIGHT_GRAY);
-            f.draw(batch, "[PAUSED]", left, top - 18f);
+        if (paused) pausedText.draw(batch, f, left, top - 18f);
+        if (replay != null) {
+            StringBuilder t = replayText.begin();
+            if (replay.isEnded()) t.append("[REPLAY ENDED]");
+            else t.append("[REPLAY ").append(replaySpeed).append("x  -/+]");
+            replayText.draw(batch, f, left, top - 36f);
         }
         batch.end();
+
+        perf.draw(shapes, batch, f, left, top - 54f);
     }
 
     private void drawLevelUpOverlay() {
-        // Safety: ensure choices exist
-        for (int i = 0; i < 3; i++) {
-            if (boonChoices[i] == null || boonChoices[i].boon == null) { rollBoonChoices(); break; }
-        }
+        BoonCard[] boonChoices = sim.getBoonChoices();
 
         // Dim background
         Gdx.gl.glEnable(GL20.GL_BLEND);
@@ -568,42 +666,33 @@ public class GameScreen implements Screen {
         game.font.setColor(1f,1f,1f,1f);
 
         batch.begin();
-        game.font.getData().setScale(1.2f);
-        String header = "Level Up! Choose a Boon (1 / 2 / 3)";
-        layout.setText(game.font, header);
-        game.font.draw(batch, header,
-            stage.getCamera().position.x - layout.width/2f,
+        levelUpHeader.draw(batch, game.font,
+            stage.getCamera().position.x - levelUpHeader.getWidth(game.font)/2f,
             stage.getCamera().position.y + viewport.getWorldHeight()/2f - 120);
 
+        // Same offer as last frame: same characters, so the layouts (wrapping included) are reused
         float tx = startX + 12;
         for (int i = 0; i < 3; i++) {
             Boon b = boonChoices[i].boon;
             float x = tx + i * (cw + gap);
             float ty = y + ch - 12;
 
-            game.font.setColor(Color.valueOf("B3E5FC"));
-            game.font.getData().setScale(1.1f);
-            game.font.draw(batch, "[" + (i+1) + "] " + b.title, x, ty);
+            boonTitles[i].begin().append('[').append(i + 1).append("] ").append(b.title);
+            boonTitles[i].draw(batch, game.font, x, ty);
 
-            game.font.setColor(Color.LIGHT_GRAY);
-            game.font.getData().setScale(0.95f);
-            RenderUtils.drawWrapped(game.font, batch, b.desc, x, ty - 20, cw - 24, 18);
+            boonDescs[i].setWrapWidth(cw - 24).begin().append(b.desc);
+            boonDescs[i].draw(batch, game.font, x, ty - 20);
         }
-        // restore
-        game.font.getData().setScale(1f);
-        game.font.setColor(Color.WHITE);
         batch.end();
 
         // Input to pick a boon
-        int pick = -1;
+        int pick = bot != null ? bot.pickBoon(sim) : -1;
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) pick = 0;
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) pick = 1;
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) pick = 2;
 
         if (Gdx.input.justTouched()) {
-            Vector3 mp = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            viewport.unproject(mp);
-            Vector2 m = new Vector2(mp.x, mp.y);
+            Vector3 m = viewport.unproject(unproject.set(Gdx.input.getX(), Gdx.input.getY(), 0f));
             for (int i = 0; i < 3; i++) {
                 float x = startX + i * (cw + gap);
                 if (m.x >= x && m.x <= x + cw && m.y >= y && m.y <= y + ch) { pick = i; break; }
@@ -611,15 +700,20 @@ public class GameScreen implements Screen {
         }
 
         if (pick != -1) {
-            boonChoices[pick].boon.apply(player);
-            player.hp = player.maxHp;   // heal to full on ANY boon selection
-            levelUpPending = false;
+            sim.chooseBoon(pick);
+            if (recorder != null) recorder.boon(pick);
         }
     }
 
     // --- Helpers ---
 
-    private Texture makePauseIcon(int size, float r, float g, float b, float a) {
+    private TextureRegion findRegion(String name) {
+        TextureRegion r = atlas.findRegion(name);
+        if (r == null) throw new GdxRuntimeException("Missing region '" + name + "' in sprites.atlas");
+        return r;
+    }
+
+    private static Texture makePauseIcon(int size, float r, float g, float b, float a) {
         Pixmap pm = new Pixmap(size, size, Pixmap.Format.RGBA8888);
         pm.setColor(0,0,0,0); pm.fill();
         pm.setColor(r,g,b,a);
@@ -638,38 +732,14 @@ public class GameScreen implements Screen {
     }
 
     private Vector2 getAimWorld() {
+        Player player = sim.getPlayer();
         if (rightJoy != null && rightJoy.isActive()) {
-            Vector2 dir = new Vector2(rightJoy.getValue());
-            if (dir.isZero()) return new Vector2(player.pos);
-            dir.nor().scl(player.swordReach);
-            return new Vector2(player.pos).add(dir);
-        }
-        Vector3 tmp = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0f);
-        viewport.unproject(tmp);
-        return new Vector2(tmp.x, tmp.y);
-    }
-
-    private void rollBoonChoices() {
-        EnumSet<BoonType> pool = EnumSet.allOf(BoonType.class);
-
-        // Remove crit boon if already capped
-        if (player.critChance >= 1.0f - 1e-6f) {
-            pool.remove(BoonType.CRIT_CHANCE);
-        }
-
-        // Safety: if everything somehow gets removed, restore full pool
-        if (pool.isEmpty()) pool = EnumSet.allOf(BoonType.class);
-
-        for (int i = 0; i < 3; i++) {
-            if (pool.isEmpty()) pool = EnumSet.allOf(BoonType.class);
-            // Re-apply filter each pick in case pool was refilled
-            if (player.critChance >= 1.0f - 1e-6f) pool.remove(BoonType.CRIT_CHANCE);
-
-            int idx = rng.nextInt(pool.size());
-            int c = 0; BoonType chosen = null;
-            for (BoonType t : pool) { if (c == idx) { chosen = t; break; } c++; }
-            pool.remove(chosen);
-            boonChoices[i] = new BoonCard(Boon.fromType(chosen));
+            Vector2 dir = rightJoy.getValue();
+            if (dir.isZero()) return aim.set(player.pos);
+            return aim.set(dir).nor().scl(player.swordReach).add(player.pos);
         }
+        unproject.set(Gdx.input.getX(), Gdx.input.getY(), 0f);
+        viewport.unproject(unproject);
+        return aim.set(unproject.x, unproject.y);
     }
 }
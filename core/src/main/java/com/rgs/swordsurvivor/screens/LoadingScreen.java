@@ -0,0 +1,69 @@
+package com.rgs.swordsurvivor.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.viewport.ExtendViewport;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.ui.HudText;
+
+/**
+ * The first screen: a progress bar while the files queued in {@link SwordSurvivorGame#create()}
+ * load. Each frame gives the loader a few milliseconds of the render thread to upload what its
+ * thread has decoded; once everything is in, the game moves on to its real first screen.
+ */
+public class LoadingScreen implements Screen {
+    private static final int UPDATE_MILLIS = 12;   // of each frame, so the bar keeps moving
+    private static final float BAR_WIDTH = 360f, BAR_HEIGHT = 14f;
+
+    private final SwordSurvivorGame game;
+    private final ExtendViewport viewport;
+    private final HudText label = new HudText().setColor(Color.LIGHT_GRAY);
+    private float shown = 0f;   // drawn progress, eased toward the real value
+
+    public LoadingScreen(SwordSurvivorGame game) {
+        this.game = game;
+        viewport = new ExtendViewport(SwordSurvivorGame.VIEW_WIDTH, SwordSurvivorGame.VIEW_HEIGHT);
+    }
+
+    @Override public void show() {}
+
+    @Override
+    public void render(float delta) {
+        boolean done = game.assets.update(UPDATE_MILLIS);
+        shown = Math.max(shown, MathUtils.lerp(shown, game.assets.progress(), Math.min(1f, delta * 12f)));
+
+        Gdx.gl.glClearColor(0.08f, 0.09f, 0.12f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        viewport.apply();
+        float cx = viewport.getWorldWidth() / 2f, cy = viewport.getWorldHeight() / 2f;
+        float x = cx - BAR_WIDTH / 2f, y = cy - BAR_HEIGHT / 2f;
+
+        ShapeRenderer shapes = game.shapes;
+        shapes.setProjectionMatrix(viewport.getCamera().combined);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0.18f, 0.22f, 0.28f, 1f);
+        shapes.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapes.setColor(0.55f, 0.75f, 0.95f, 1f);
+        shapes.rect(x, y, BAR_WIDTH * shown, BAR_HEIGHT);
+        shapes.end();
+
+        label.begin().append("Loading ").append(MathUtils.round(shown * 100f)).append('%');
+        game.batch.setProjectionMatrix(viewport.getCamera().combined);
+        game.batch.begin();
+        label.draw(game.batch, game.font, cx - label.getWidth(game.font) / 2f, y - 12f);
+        game.batch.end();
+
+        if (done) game.assetsLoaded();
+    }
+
+    @Override public void resize(int width, int height) { viewport.update(width, height, true); }
+    @Override public void pause()  {}
+    @Override public void resume() {}
+    @Override public void hide()   {}
+    @Override public void dispose() {}
+}
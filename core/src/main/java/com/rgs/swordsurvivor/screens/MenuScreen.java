@@ -24,20 +24,22 @@ import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 
 import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.assets.Assets;
 
 public class MenuScreen implements Screen {
     private final SwordSurvivorGame game;
     private final ExtendViewport viewport;
     private final Stage stage;
 
-    private Texture bgTex, btnUp, btnOver, btnDown, cardTex;
-    private Texture cbBoxOff, cbBoxOn;
+    // Textures come from the game's shared cache; given back when this screen is disposed
+    private final Assets.Scope assets;
 
     private Label highscoreLabel;   // <-- keep reference so we can refresh text
     private CheckBox muteBox;
 
     public MenuScreen(SwordSurvivorGame game) {
         this.game = game;
+        this.assets = game.assets.scope();
         viewport = new ExtendViewport(SwordSurvivorGame.VIEW_WIDTH, SwordSurvivorGame.VIEW_HEIGHT);
         stage = new Stage(viewport, game.batch);
         Gdx.input.setInputProcessor(stage);
@@ -46,15 +48,15 @@ public class MenuScreen implements Screen {
 
     private void buildUI() {
         // Backgrounds
-        bgTex = makeSolid(0.08f, 0.09f, 0.12f, 1f);
+        Texture bgTex = assets.solid(0.08f, 0.09f, 0.12f, 1f);
         TextureRegionDrawable bg = new TextureRegionDrawable(new TextureRegion(bgTex));
-        cardTex = makeSolid(0.12f, 0.14f, 0.18f, 1f);
+        Texture cardTex = assets.solid(0.12f, 0.14f, 0.18f, 1f);
         TextureRegionDrawable card = new TextureRegionDrawable(new TextureRegion(cardTex));
 
         // Buttons
-        btnUp   = makeSolid(0.18f, 0.22f, 0.28f, 1f);
-        btnOver = makeSolid(0.24f, 0.30f, 0.38f, 1f);
-        btnDown = makeSolid(0.14f, 0.16f, 0.20f, 1f);
+        Texture btnUp   = assets.solid(0.18f, 0.22f, 0.28f, 1f);
+        Texture btnOver = assets.solid(0.24f, 0.30f, 0.38f, 1f);
+        Texture btnDown = assets.solid(0.14f, 0.16f, 0.20f, 1f);
         TextButtonStyle btnStyle = new TextButtonStyle(
             new TextureRegionDrawable(new TextureRegion(btnUp)),
             new TextureRegionDrawable(new TextureRegion(btnDown)),
@@ -76,8 +78,12 @@ public class MenuScreen implements Screen {
         TextButton quitBtn = new TextButton("Quit", btnStyle);
 
         // Mute checkbox
-        cbBoxOff = makeCheckboxBox(22, Color.WHITE, 0.9f);
-        cbBoxOn  = makeCheckboxChecked(22, Color.WHITE);
+        Texture cbBoxOff = assets.acquire("menu:checkbox-off", new Assets.Loader<Texture>() {
+            @Override public Texture load() { return makeCheckboxBox(22, Color.WHITE, 0.9f); }
+        });
+        Texture cbBoxOn = assets.acquire("menu:checkbox-on", new Assets.Loader<Texture>() {
+            @Override public Texture load() { return makeCheckboxChecked(22, Color.WHITE); }
+        });
         CheckBoxStyle cbStyle = new CheckBoxStyle();
         cbStyle.checkboxOff = new TextureRegionDrawable(new TextureRegion(cbBoxOff));
         cbStyle.checkboxOn  = new TextureRegionDrawable(new TextureRegion(cbBoxOn));
@@ -129,15 +135,7 @@ public class MenuScreen implements Screen {
         });
     }
 
-    private Texture makeSolid(float r, float g, float b, float a) {
-        Pixmap pm = new Pixmap(1,1, Pixmap.Format.RGBA8888);
-        pm.setColor(r,g,b,a); pm.fill();
-        Texture t = new Texture(pm);
-        pm.dispose();
-        return t;
-    }
-
-    private Texture makeCheckboxBox(int size, Color color, float alpha) {
+    private static Texture makeCheckboxBox(int size, Color color, float alpha) {
         Pixmap pm = new Pixmap(size, size, Pixmap.Format.RGBA8888);
         pm.setColor(0,0,0,0); pm.fill();
         pm.setColor(color.r, color.g, color.b, alpha);
@@ -146,7 +144,7 @@ public class MenuScreen implements Screen {
         Texture tex = new Texture(pm); pm.dispose(); return tex;
     }
 
-    private Texture makeCheckboxChecked(int size, Color color) {
+    private static Texture makeCheckboxChecked(int size, Color color) {
         Pixmap pm = new Pixmap(size, size, Pixmap.Format.RGBA8888);
         pm.setColor(0,0,0,0); pm.fill();
         pm.setColor(color);
@@ -195,12 +193,6 @@ public class MenuScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        if (bgTex != null) bgTex.dispose();
-        if (btnUp != null) btnUp.dispose();
-        if (btnOver != null) btnOver.dispose();
-        if (btnDown != null) btnDown.dispose();
-        if (cardTex != null) cardTex.dispose();
-        if (cbBoxOff != null) cbBoxOff.dispose();
-        if (cbBoxOn  != null) cbBoxOn.dispose();
+        assets.close();
     }
 }
@@ -0,0 +1,251 @@
+package com.rgs.swordsurvivor.sim;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.boons.BoonCard;
+import com.rgs.swordsurvivor.boons.BoonType;
+import com.rgs.swordsurvivor.entities.EnemyStore;
+import com.rgs.swordsurvivor.entities.Orb;
+import com.rgs.swordsurvivor.entities.Player;
+
+import java.util.Arrays;
+
+/**
+ * Plays the game without a human, for soak runs and late-game benchmarks. It fills the same
+ * {@link InputCommand} GameScreen fills from the keyboard and joysticks, and picks boons.
+ *
+ * Each step, enemies near the player are gathered once, then:
+ * - movement tries {@link #DIRECTIONS} headings (and standing still), scoring where each leads
+ *   after {@link #SHORT_LOOK} and {@link #LONG_LOOK} seconds with every enemy walked that much
+ *   closer: contact, closeness (weighted by contact damage), walls, and the pull of the nearest
+ *   orb while nothing is close. The best heading wins, so the bot kites at the edge of its reach
+ *   and slips through gaps instead of backing into a corner;
+ * - the aim goes to the middle of the {@link #AIM_SECTORS} arc window holding the most enemy
+ *   bodies in sword reach (the swing sweeps about a third of a circle around the aim);
+ * - level-ups take the boon with the best greedy score for the current stats.
+ *
+ * Deterministic (no randomness, reads only the simulation), so a seeded run plays the same every
+ * time, and allocation-free.
+ */
+public class BotPlayer {
+    static final int DIRECTIONS = 16;
+    static final int AIM_SECTORS = 24;
+    static final float SHORT_LOOK = 0.15f;   // seconds ahead each heading is scored at
+    static final float LONG_LOOK = 0.4f;
+    static final float SENSE_RANGE = 420f;   // enemies farther than this are ignored
+    static final float WALL_MARGIN = 300f;   // start avoiding the world edge this far out
+    static final float ORB_RANGE = 500f;
+    static final float CROWD = 0.5f;
+
+    private static final float[] DIR_X = new float[DIRECTIONS], DIR_Y = new float[DIRECTIONS];
+    static {
+        for (int d = 0; d < DIRECTIONS; d++) {
+            float a = MathUtils.PI2 * d / DIRECTIONS;
+            DIR_X[d] = MathUtils.cos(a);
+            DIR_Y[d] = MathUtils.sin(a);
+        }
+    }
+
+    // Enemies within SENSE_RANGE this step: position, body radius, contact damage, speed
+    private float[] nx = new float[256], ny = new float[256], nr = new float[256], nd = new float[256];
+    private float[] ns = new float[256];
+    private int near;
+    private final float[] sectorWeight = new float[AIM_SECTORS];
+    private final int[] picks = new int[BoonType.values().length];
+    private float lastDirX = 0f, lastDirY = 0f;
+
+    /** Forget per-run state (boon history, heading). */
+    public void reset() {
+        for (int i = 0; i < picks.length; i++) picks[i] = 0;
+        lastDirX = lastDirY = 0f;
+    }
+
+    /** Decide this step's movement and aim. */
+    public void think(Simulation sim, InputCommand out) {
+        Player p = sim.getPlayer();
+        gatherNearby(sim.enemies, p.pos.x, p.pos.y);
+        move(sim, p, out);
+        aim(p, out);
+    }
+
+    /** Index (0..2) of the boon to take from the pending offer. */
+    public int pickBoon(Simulation sim) {
+        BoonCard[] choices = sim.getBoonChoices();
+        Player p = sim.getPlayer();
+        int best = 0;
+        float bestScore = -Float.MAX_VALUE;
+        for (int i = 0; i < choices.length; i++) {
+            float s = boonScore(choices[i].boon.type, p);
+            if (s > bestScore) {
+                bestScore = s;
+                best = i;
+            }
+        }
+        picks[choices[best].boon.type.ordinal()]++;
+        return best;
+    }
+
+    private void gatherNearby(EnemyStore enemies, float px, float py) {
+        near = 0;
+        float range2 = SENSE_RANGE * SENSE_RANGE;
+        for (int i = 0; i < enemies.size; i++) {
+            float dx = enemies.x[i] - px, dy = enemies.y[i] - py;
+            if (dx*dx + dy*dy > range2) continue;
+            if (near == nx.length) grow();
+            nx[near] = enemies.x[i];
+            ny[near] = enemies.y[i];
+            nr[near] = enemies.radius[i];
+            nd[near] = enemies.touchDamage[i];
+            ns[near] = enemies.speed[i];
+            near++;
+        }
+    }
+
+    private void move(Simulation sim, Player p, InputCommand out) {
+        float bestX = 0f, bestY = 0f;
+        float best = heading(sim, p, 0f, 0f);
+        for (int d = 0; d < DIRECTIONS; d++) {
+            float s = heading(sim, p, DIR_X[d], DIR_Y[d]);
+            s += 0.15f * (DIR_X[d] * lastDirX + DIR_Y[d] * lastDirY); // a little inertia: no dithering
+            if (s > best) {
+                best = s;
+                bestX = DIR_X[d];
+                bestY = DIR_Y[d];
+            }
+        }
+        lastDirX = bestX;
+        lastDirY = bestY;
+        out.moveX = bestX;
+        out.moveY = bestY;
+    }
+
+    /** Score of holding one heading: the way there counts as much as where it ends. */
+    private float heading(Simulation sim, Player p, float dx, float dy) {
+        float near = p.speed * SHORT_LOOK, far = p.speed * LONG_LOOK;
+        return score(sim, p, p.pos.x + dx * near, p.pos.y + dy * near, SHORT_LOOK)
+             + score(sim, p, p.pos.x + dx * far, p.pos.y + dy * far, LONG_LOOK);
+    }
+
+    /** Higher is better: how safe and useful being at (x, y) after {@code time} seconds would be. */
+    private float score(Simulation sim, Player p, float x, float y, float time) {
+        // The simulation clamps the player to the world: running into a wall goes nowhere
+        float half = p.size * 0.5f;
+        x = MathUtils.clamp(x, half, SwordSurvivorGame.WORLD_WIDTH - half);
+        y = MathUtils.clamp(y, half, SwordSurvivorGame.WORLD_HEIGHT - half);
+
+        float danger = 0f, closest = Float.MAX_VALUE;
+        float comfort = p.swordReach * 0.75f; // enemies inside this get hit but are about to touch
+        for (int i = 0; i < near; i++) {
+            float dx = nx[i] - x, dy = ny[i] - y;
+            float gap = (float)Math.sqrt(dx*dx + dy*dy) - nr[i] - p.radius - ns[i] * time; // it walks at us
+            if (gap < closest) closest = gap;
+            if (gap <= 0f) {
+                danger += nd[i] * (10f - gap * 0.1f); // contact: an actual hit, worse the deeper
+            } else if (gap < comfort) {
+                float t = 1f - gap / comfort;
+                danger += nd[i] * t * t;
+            }
+            danger += CROWD * nd[i] * nr[i] / (gap + SENSE_RANGE); // open ground beats a ring of bodies
+        }
+
+        float s = -danger;
+
+        // Near the world edge the camera stops and enemies spawn right next to the player: keep off
+        s -= wall(x - half) + wall(SwordSurvivorGame.WORLD_WIDTH - half - x)
+           + wall(y - half) + wall(SwordSurvivorGame.WORLD_HEIGHT - half - y);
+
+        // Nothing close: drift to the nearest orb (XP means boons and a full heal)
+        if (closest > comfort) s += orbPull(sim.orbs, p, x, y, time);
+        return s;
+    }
+
+    private static float wall(float distance) {
+        if (distance >= WALL_MARGIN) return 0f;
+        float t = 1f - Math.max(distance, 0f) / WALL_MARGIN;
+        return 6f * t * t;
+    }
+
+    private float orbPull(Array<Orb> orbs, Player p, float x, float y, float time) {
+        float bestD2 = ORB_RANGE * ORB_RANGE;
+        Orb target = null;
+        for (int i = 0; i < orbs.size; i++) {
+            Orb o = orbs.get(i);
+            float d2 = o.pos.dst2(p.pos);
+            if (d2 < bestD2) {
+                bestD2 = d2;
+                target = o;
+            }
+        }
+        if (target == null) return 0f;
+        float before = (float)Math.sqrt(bestD2);
+        float after = target.pos.dst(x, y);
+        return 0.5f * (before - after) / (p.speed * time);
+    }
+
+    private void aim(Player p, InputCommand out) {
+        for (int s = 0; s < AIM_SECTORS; s++) sectorWeight[s] = 0f;
+        float reach = p.swordReach * 1.1f;
+        int counted = 0;
+        for (int i = 0; i < near; i++) {
+            float dx = nx[i] - p.pos.x, dy = ny[i] - p.pos.y;
+            float r = reach + nr[i];
+            if (dx*dx + dy*dy > r*r) continue;
+            float a = MathUtils.atan2(dy, dx);
+            int sector = ((int)((a + MathUtils.PI) / MathUtils.PI2 * AIM_SECTORS)) % AIM_SECTORS;
+            sectorWeight[sector] += nr[i]; // big bodies take many swings: worth more
+            counted++;
+        }
+
+        if (counted == 0) {
+            // Nobody in reach: point ahead so the first swing meets whatever comes
+            out.aimX = p.pos.x + (lastDirX != 0f || lastDirY != 0f ? lastDirX : 1f) * p.swordReach;
+            out.aimY = p.pos.y + lastDirY * p.swordReach;
+            return;
+        }
+
+        // Slide a window as wide as the swing around the circle; aim at the heaviest one
+        int window = Math.max(1, Math.round(p.swingSweep / 360f * AIM_SECTORS));
+        float sum = 0f;
+        for (int s = 0; s < window; s++) sum += sectorWeight[s];
+        float bestSum = sum;
+        int bestStart = 0;
+        for (int s = 1; s < AIM_SECTORS; s++) {
+            sum += sectorWeight[(s + window - 1) % AIM_SECTORS] - sectorWeight[s - 1];
+            if (sum > bestSum) {
+                bestSum = sum;
+                bestStart = s;
+            }
+        }
+        float center = (bestStart + window * 0.5f) / AIM_SECTORS * MathUtils.PI2 - MathUtils.PI;
+        out.aimX = p.pos.x + MathUtils.cos(center) * p.swordReach;
+        out.aimY = p.pos.y + MathUtils.sin(center) * p.swordReach;
+    }
+
+    /** Greedy value of a boon now; repeats are worth a little less each time. */
+    private float boonScore(BoonType t, Player p) {
+        float s;
+        switch (t) {
+            case DAMAGE:       s = 10f; break;
+            case ATTACK_SPEED: s = p.attackCooldown > 0.2f ? 9f : 0f; break;
+            case AREA:         s = 8f; break;
+            case MAX_HEALTH:   s = p.maxHp < 16 ? 8.5f : 5f; break;
+            case MOVE_SPEED:   s = p.speed < 300f ? 7f : 1f; break;
+            case CRIT_CHANCE:  s = p.critChance < 0.95f ? 6f : 0f; break;
+            case PICKUP_RANGE: s = p.pickupRange < 120f ? 5f : 1f; break;
+            case XP_GAIN:      s = 4f; break;
+            default:           s = 0f; break;
+        }
+        return s * (float)Math.pow(0.85, picks[t.ordinal()]);
+    }
+
+    private void grow() {
+        int n = nx.length * 2;
+        nx = Arrays.copyOf(nx, n);
+        ny = Arrays.copyOf(ny, n);
+        nr = Arrays.copyOf(nr, n);
+        nd = Arrays.copyOf(nd, n);
+        ns = Arrays.copyOf(ns, n);
+    }
+}
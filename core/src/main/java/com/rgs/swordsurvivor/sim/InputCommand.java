@@ -0,0 +1,25 @@
+package com.rgs.swordsurvivor.sim;
+
+/**
+ * Everything the player controls for one simulation step. Filled by GameScreen from
+ * keyboard/mouse/joysticks, or by anything else that wants to drive a {@link Simulation}.
+ */
+public class InputCommand {
+    /** Movement direction, each axis -1..1, length at most 1. */
+    public float moveX, moveY;
+    /** Aim point in world coordinates (the sword swings toward it). */
+    public float aimX, aimY;
+
+    public InputCommand set(InputCommand other) {
+        moveX = other.moveX;
+        moveY = other.moveY;
+        aimX = other.aimX;
+        aimY = other.aimY;
+        return this;
+    }
+
+    public void clear() {
+        moveX = moveY = 0f;
+        aimX = aimY = 0f;
+    }
+}
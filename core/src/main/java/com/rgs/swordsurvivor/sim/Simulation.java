@@ -0,0 +1,428 @@
+package com.rgs.swordsurvivor.sim;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.boons.Boon;
+import com.rgs.swordsurvivor.boons.BoonCard;
+import com.rgs.swordsurvivor.boons.BoonType;
+import com.rgs.swordsurvivor.combat.SweptArc;
+import com.rgs.swordsurvivor.entities.EnemyStore;
+import com.rgs.swordsurvivor.entities.EnemyType;
+import com.rgs.swordsurvivor.entities.Orb;
+import com.rgs.swordsurvivor.entities.Player;
+import com.rgs.swordsurvivor.jobs.JobSystem;
+import com.rgs.swordsurvivor.metrics.Counter;
+import com.rgs.swordsurvivor.metrics.Gauge;
+import com.rgs.swordsurvivor.metrics.LatencyHistogram;
+import com.rgs.swordsurvivor.metrics.Metrics;
+import com.rgs.swordsurvivor.systems.EntityPools;
+import com.rgs.swordsurvivor.systems.FlowField;
+import com.rgs.swordsurvivor.systems.OrbMerger;
+import com.rgs.swordsurvivor.systems.Separation;
+import com.rgs.swordsurvivor.systems.SpatialGrid;
+import com.rgs.swordsurvivor.systems.Spawner;
+
+import com.rgs.swordsurvivor.util.PhaseTimer;
+import com.rgs.swordsurvivor.util.Rng;
+
+import java.util.EnumSet;
+
+/**
+ * The whole game rules, with no GL, audio or Gdx.input: input arrives as an {@link InputCommand}
+ * per step and everything worth presenting goes out through a {@link Listener}.
+ * GameScreen drives it from the render loop; benchmarks and headless runners drive it directly.
+ */
+public class Simulation {
+    // Rng stream per subsystem: a new roll in one never shifts another's sequence
+    static final int STREAM_SPAWN = 1;
+    static final int STREAM_COMBAT = 2;
+    static final int STREAM_BOONS = 3;
+
+    // Phases of a step, for the perf overlay (see getTimings)
+    public static final int PHASE_SPAWN = 0;
+    public static final int PHASE_ENEMIES = 1;
+    public static final int PHASE_CROWD = 2;
+    public static final int PHASE_HITS = 3;
+    public static final int PHASE_ORBS = 4;
+
+    /** Enemy rows per slice when movement runs on several threads. */
+    static final int MOVE_GRAIN = 1024;
+
+    /** Gameplay events, in the order they happen inside a step. */
+    public interface Listener {
+        void onWaveStarted(int wave);
+        void onPlayerHit(int damage);
+        void onPlayerDied(int kills);
+        void onEnemyHit(float x, float y, int damage, boolean crit);
+        void onEnemyKilled(EnemyType type, float x, float y);
+        void onOrbPickup(int xp);
+        void onLevelUp(int level);
+    }
+
+    /** No-op listener to extend when only a few events matter. */
+    public static class Adapter implements Listener {
+        @Override public void onWaveStarted(int wave) {}
+        @Override public void onPlayerHit(int damage) {}
+        @Override public void onPlayerDied(int kills) {}
+        @Override public void onEnemyHit(float x, float y, int damage, boolean crit) {}
+        @Override public void onEnemyKilled(EnemyType type, float x, float y) {}
+        @Override public void onOrbPickup(int xp) {}
+        @Override public void onLevelUp(int level) {}
+    }
+
+    // Entities / systems
+    public final EnemyStore enemies = new EnemyStore();
+    public final Array<Orb> orbs = new Array<>(false, 64); // unordered: pickups and merges swap-remove
+    private final EntityPools pools;
+    private final OrbMerger orbMerger;
+    private final Rng spawnRng = new Rng(0L, STREAM_SPAWN);
+    private final Rng combatRng = new Rng(0L, STREAM_COMBAT);
+    private final Rng boonRng = new Rng(0L, STREAM_BOONS);
+    private final Metrics metrics = new Metrics();
+    private final Spawner spawner = new Spawner(spawnRng, metrics);
+    private final FlowField flowField = new FlowField();
+    private final SpatialGrid enemyGrid = new SpatialGrid();
+    private final Separation separation = new Separation();
+    private final IntArray queryHits = new IntArray();
+    private final SweptArc swordArc = new SweptArc();
+    private final Vector2 aim = new Vector2();
+    private final PhaseTimer timings = new PhaseTimer("player+spawn", "enemies", "crowd", "hits", "orbs");
+
+    // Soak metrics (recorded only while the registry is enabled)
+    private final LatencyHistogram stepNanos = metrics.histogram("sim.step_ns");
+    private final Counter stepCount = metrics.counter("sim.steps");
+    private final Counter hitCount = metrics.counter("combat.hits");
+    private final Counter critCount = metrics.counter("combat.crits");
+    private final Counter damageDealt = metrics.counter("combat.damage");
+    private final Counter killCount = metrics.counter("combat.kills");
+    private final Counter playerHits = metrics.counter("player.hits");
+    private final Counter orbPickups = metrics.counter("orbs.picked");
+    private Player player;
+
+    private Listener listener = new Adapter();
+
+    // Parallel loops (serial unless the platform has threads); results never depend on it
+    private JobSystem jobs = JobSystem.SERIAL;
+    private float moveDt, moveTargetX;
+    private final JobSystem.Job moveJob = new JobSystem.Job() {
+        @Override public void run(int from, int to) {
+            enemies.update(moveDt, flowField, moveTargetX, from, to);
+        }
+    };
+
+    // Run state
+    private long seed;
+    private int kills = 0;
+    private long ticks = 0;
+    private boolean gameOver = false;
+    private boolean levelUpPending = false;
+    private final BoonCard[] boonChoices = new BoonCard[3];
+    private int lastAnnouncedWave = 0;
+
+    // Visible area around the player; spawns happen just outside it
+    private float viewWidth = SwordSurvivorGame.VIEW_WIDTH;
+    private float viewHeight = SwordSurvivorGame.VIEW_HEIGHT;
+
+    public Simulation() {
+        this(new EntityPools());
+    }
+
+    public Simulation(EntityPools pools) {
+        this(pools, Rng.randomSeed());
+    }
+
+    /** Same seed and same inputs every step: the same run, down to every spawn and crit. */
+    public Simulation(EntityPools pools, long seed) {
+        this.pools = pools;
+        this.orbMerger = new OrbMerger(pools);
+        registerGauges();
+        reset(seed);
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener != null ? listener : new Adapter();
+    }
+
+    /**
+     * Where the enemy movement and separation loops run. Hits, kills, drops and every listener
+     * call stay on the calling thread in row order, so a run plays out the same either way.
+     */
+    public void setJobs(JobSystem jobs) {
+        this.jobs = jobs != null ? jobs : JobSystem.SERIAL;
+    }
+
+    /** Size of the camera view in world units (spawn ring and camera clamp). */
+    public void setViewSize(float width, float height) {
+        this.viewWidth = width;
+        this.viewHeight = height;
+    }
+
+    /** Start a fresh run on a new random seed. */
+    public void reset() {
+        reset(Rng.randomSeed());
+    }
+
+    /** Start a fresh run that will replay exactly given the same inputs. */
+    public void reset(long seed) {
+        this.seed = seed;
+        spawnRng.setSeed(seed, STREAM_SPAWN);
+        combatRng.setSeed(seed, STREAM_COMBAT);
+        boonRng.setSeed(seed, STREAM_BOONS);
+        player = new Player(new Vector2(SwordSurvivorGame.WORLD_WIDTH/2f, SwordSurvivorGame.WORLD_HEIGHT/2f));
+        enemies.clear();
+        pools.freeAllOrbs(orbs);
+        orbMerger.reset();
+        spawner.reset();
+        flowField.reset();
+        separation.reset(); // its budget rotation carries over between steps, so it must restart with the run
+        kills = 0;
+        ticks = 0;
+        gameOver = false;
+        levelUpPending = false;
+
+        lastAnnouncedWave = 1;
+        listener.onWaveStarted(1);
+    }
+
+    // --- Queries ---
+
+    public Player getPlayer() { return player; }
+    public EntityPools getPools() { return pools; }
+    public FlowField getFlowField() { return flowField; }
+    public Separation getSeparation() { return separation; }
+    public JobSystem getJobs() { return jobs; }
+
+    /** Counters, gauges and step latency for soak runs; disabled until an exporter enables it. */
+    public Metrics getMetrics() { return metrics; }
+
+    /** Per-phase step times (PHASE_*); off until enabled, and the owner calls endFrame(). */
+    public PhaseTimer getTimings() { return timings; }
+    public long getSeed() { return seed; }
+    public int getKills() { return kills; }
+    public int getWave() { return spawner.getWave(); }
+    public long getTicks() { return ticks; }
+    public boolean isGameOver() { return gameOver; }
+    public boolean isLevelUpPending() { return levelUpPending; }
+
+    /** Current level-up offer; only meaningful while {@link #isLevelUpPending()}. */
+    public BoonCard[] getBoonChoices() { return boonChoices; }
+
+    /** Camera center for a given focus point, clamped so the view stays inside the world. */
+    public float cameraX(float focusX) {
+        float halfW = viewWidth/2f;
+        return MathUtils.clamp(focusX, halfW, SwordSurvivorGame.WORLD_WIDTH - halfW);
+    }
+
+    public float cameraY(float focusY) {
+        float halfH = viewHeight/2f;
+        return MathUtils.clamp(focusY, halfH, SwordSurvivorGame.WORLD_HEIGHT - halfH);
+    }
+
+    // --- Commands ---
+
+    /** Take boon 0..2 from the pending level-up offer; heals to full. Ignored if nothing is pending. */
+    public void chooseBoon(int index) {
+        if (!levelUpPending || index < 0 || index >= boonChoices.length) return;
+        boonChoices[index].boon.apply(player);
+        player.hp = player.maxHp;   // heal to full on ANY boon selection
+        levelUpPending = false;
+    }
+
+    /** Advance one fixed step. Does nothing while a level-up choice is pending or after death. */
+    public void step(InputCommand input, float dt) {
+        if (gameOver || levelUpPending) return;
+        ticks++;
+        timings.start();
+        boolean timed = metrics.isEnabled();
+        long startNanos = timed ? TimeUtils.nanoTime() : 0L;
+        stepCount.inc();
+
+        // Start-of-step snapshot that renderers interpolate from
+        player.prevPos.set(player.pos);
+        enemies.savePositions();
+        for (int i = 0; i < orbs.size; i++) {
+            Orb o = orbs.get(i);
+            o.prevPos.set(o.pos);
+        }
+
+        // Movement
+        float mx = input.moveX, my = input.moveY;
+        float len2 = mx*mx + my*my;
+        if (len2 > 1e-8f) {
+            float step = player.speed * dt / (float)Math.sqrt(len2);
+            player.pos.add(mx * step, my * step);
+            if (mx < 0) player.facingLeft = true;
+            else if (mx > 0) player.facingLeft = false;
+        }
+
+        // Aim & swing
+        player.update(dt, aim.set(input.aimX, input.aimY));
+
+        // Clamp player inside world
+        float half = player.size * 0.5f;
+        player.pos.x = MathUtils.clamp(player.pos.x, half, SwordSurvivorGame.WORLD_WIDTH  - half);
+        player.pos.y = MathUtils.clamp(player.pos.y, half, SwordSurvivorGame.WORLD_HEIGHT - half);
+
+        // Spawning
+        spawner.update(dt);
+        int currentWave = spawner.getWave();
+        if (currentWave > lastAnnouncedWave) {
+            lastAnnouncedWave = currentWave;
+            listener.onWaveStarted(currentWave);
+        }
+        float camX = cameraX(player.pos.x), camY = cameraY(player.pos.y);
+        while (spawner.shouldSpawn()) {
+            spawner.spawnEnemyAroundView(enemies, camX, camY, viewWidth, viewHeight);
+        }
+        timings.mark(PHASE_SPAWN);
+
+        // Enemies: follow the flow field to the player, face them, tick hurt flash
+        flowField.setGoal(player.pos.x, player.pos.y);
+        if (jobs.parallelism() > 1 && enemies.size > MOVE_GRAIN) flowField.aimAll(); // sample() must not write across threads
+        moveDt = dt;
+        moveTargetX = player.pos.x;
+        jobs.forEach(enemies.size, MOVE_GRAIN, moveJob);
+        timings.mark(PHASE_ENEMIES);
+
+        // Broadphase: rebuild the grid from this step's positions (grid id == store row)
+        buildEnemyGrid();
+
+        // Crowd: push overlapping enemies apart, then re-bucket them where they ended up
+        if (separation.resolve(enemies, enemyGrid, jobs)) buildEnemyGrid();
+        timings.mark(PHASE_CROWD);
+
+        // Touch damage (highest row first)
+        enemyGrid.queryCircle(player.pos.x, player.pos.y, player.radius, queryHits);
+        if (queryHits.size > 0 && player.hurtCooldown <= 0f) {
+            int damage = enemies.touchDamage[queryHits.peek()];
+            player.hp -= damage;
+            player.hurtCooldown = 0.6f;
+            player.hurtTimer = 0.2f;
+            playerHits.inc();
+            listener.onPlayerHit(damage);
+            if (player.hp <= 0) {
+                gameOver = true;
+                listener.onPlayerDied(kills);
+            }
+        }
+
+        // Sword hits: everything the blade swept through since last step
+        if (player.swing.active) {
+            enemyGrid.querySweptArc(swordArc.set(player), queryHits);
+
+            // Descending: removeIndex() swaps the last row in, which we've already visited
+            for (int h = queryHits.size - 1; h >= 0; h--) {
+                int i = queryHits.get(h);
+                if (enemies.lastHitSwingId[i] == player.swing.id) continue;
+
+                // --- CRIT ROLL ---
+                boolean crit = combatRng.nextFloat() < player.critChance;
+                int dealt = crit ? player.damage * 2 : player.damage;
+
+                enemies.hp[i] -= dealt;
+                enemies.lastHitSwingId[i] = player.swing.id;
+                enemies.hurtTimer[i] = 0.2f;
+                hitCount.inc();
+                if (crit) critCount.inc();
+                damageDealt.add(dealt);
+                listener.onEnemyHit(enemies.x[i], enemies.y[i] + enemies.sizeOf(i) * 0.6f, dealt, crit);
+
+                // Death
+                if (enemies.hp[i] <= 0) {
+                    kills++;
+                    killCount.inc();
+                    EnemyType type = enemies.typeOf(i);
+                    float x = enemies.x[i], y = enemies.y[i];
+                    dropOrbs(type, x, y);
+                    enemies.removeIndex(i);
+                    listener.onEnemyKilled(type, x, y);
+                }
+            }
+        }
+
+        timings.mark(PHASE_HITS);
+
+        // Orbs
+        for (int i = orbs.size - 1; i >= 0; i--) {
+            Orb o = orbs.get(i);
+            o.update(dt, player.pos, player.pickupRange);
+            if (o.canPickup(player.pos, player.pickupRange)) {
+                int xpGain = Math.round(o.value * player.xpGain);
+                orbPickups.inc();
+                listener.onOrbPickup(xpGain);
+                if (player.gainXP(xpGain)) {
+                    rollBoonChoices();
+                    levelUpPending = true;
+                    listener.onLevelUp(player.level);
+                }
+                pools.free(orbs.removeIndex(i));
+            }
+        }
+
+        // Fold orbs sharing a cell so the floor never holds more than the budget
+        orbMerger.update(orbs);
+        timings.mark(PHASE_ORBS);
+        if (timed) stepNanos.record(TimeUtils.nanoTime() - startNanos);
+    }
+
+    private void registerGauges() {
+        metrics.gauge("enemies", new Gauge() { @Override public double value() { return enemies.size; } });
+        metrics.gauge("orbs", new Gauge() { @Override public double value() { return orbs.size; } });
+        metrics.gauge("orbs.merged", new Gauge() { @Override public double value() { return orbMerger.getMerges(); } });
+        metrics.gauge("wave", new Gauge() { @Override public double value() { return spawner.getWave(); } });
+        metrics.gauge("kills", new Gauge() { @Override public double value() { return kills; } });
+        metrics.gauge("player.level", new Gauge() { @Override public double value() { return player.level; } });
+        metrics.gauge("crowd.pairs", new Gauge() { @Override public double value() { return separation.getLastPairs(); } });
+        metrics.gauge("flow.rebuilds", new Gauge() { @Override public double value() { return flowField.getRebuilds(); } });
+        metrics.gauge("pools.created", new Gauge() { @Override public double value() { return pools.totalCreated(); } });
+    }
+
+    private void buildEnemyGrid() {
+        enemyGrid.begin();
+        for (int i = 0; i < enemies.size; i++) enemyGrid.add(enemies.x[i], enemies.y[i], enemies.radius[i]);
+        enemyGrid.build();
+    }
+
+    /** XP drop: one orb in place, or a ring of orbs for the big types. */
+    private void dropOrbs(EnemyType type, float x, float y) {
+        int orbValue = 1 + spawner.getWave()/2;
+        if (type.orbCount == 1) {
+            orbs.add(pools.orbs.obtain().init(x, y, orbValue));
+            return;
+        }
+        for (int k = 0; k < type.orbCount; k++) {
+            float ang = MathUtils.PI2 * k / type.orbCount;
+            orbs.add(pools.orbs.obtain().init(x + MathUtils.cos(ang) * type.orbRing,
+                y + MathUtils.sin(ang) * type.orbRing, orbValue));
+        }
+    }
+
+    private void rollBoonChoices() {
+        EnumSet<BoonType> pool = EnumSet.allOf(BoonType.class);
+
+        // Remove crit boon if already capped
+        if (player.critChance >= 1.0f - 1e-6f) {
+            pool.remove(BoonType.CRIT_CHANCE);
+        }
+
+        // Safety: if everything somehow gets removed, restore full pool
+        if (pool.isEmpty()) pool = EnumSet.allOf(BoonType.class);
+
+        for (int i = 0; i < 3; i++) {
+            if (pool.isEmpty()) pool = EnumSet.allOf(BoonType.class);
+            // Re-apply filter each pick in case pool was refilled
+            if (player.critChance >= 1.0f - 1e-6f) pool.remove(BoonType.CRIT_CHANCE);
+
+            int idx = boonRng.nextInt(pool.size());
+            int c = 0; BoonType chosen = null;
+            for (BoonType t : pool) { if (c == idx) { chosen = t; break; } c++; }
+            pool.remove(chosen);
+            boonChoices[i] = new BoonCard(Boon.fromType(chosen));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.rgs.swordsurvivor.systems;
+
+import com.badlogic.gdx.utils.Array;
+
+import com.rgs.swordsurvivor.entities.Orb;
+import com.rgs.swordsurvivor.util.StatPool;
+
+/**
+ * Typed pools for everything we create per kill (enemies live in EnemyStore rows, damage numbers
+ * in DamageNumbers' ring buffer). Removing an orb from its array must go through {@link #free}.
+ */
+public class EntityPools {
+    public final StatPool<Orb> orbs = new StatPool<Orb>("Orb", 256) {
+        @Override protected Orb create() { return new Orb(); }
+    };
+
+    private final StatPool<?>[] all = { orbs };
+
+    public void free(Orb o) {
+        orbs.free(o);
+    }
+
+    /** Free and clear every orb in the array (run restart). */
+    public void freeAllOrbs(Array<Orb> list) {
+        orbs.freeAll(list);
+        list.clear();
+    }
+
+    /** Sum of objects ever constructed by all pools; flat during steady-state play. */
+    public int totalCreated() {
+        int n = 0;
+        for (StatPool<?> p : all) n += p.getCreated();
+        return n;
+    }
+
+    /** Every pool's figures on one line, appended to the debug overlay's reused builder (no garbage). */
+    public StringBuilder describe(StringBuilder out) {
+        for (int i = 0; i < all.length; i++) {
+            StatPool<?> p = all[i];
+            if (i > 0) out.append("  ");
+            out.append(p.getName()).append(" live=").append(p.getLive()).append(" free=").append(p.getFree())
+                .append(" peak=").append(p.peak).append(" created=").append(p.getCreated());
+        }
+        return out;
+    }
+}
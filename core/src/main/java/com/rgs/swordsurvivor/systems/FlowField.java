@@ -0,0 +1,329 @@
+package com.rgs.swordsurvivor.systems;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+
+/**
+ * Grid flow field toward a single goal (the player), shared by every enemy.
+ *
+ * Each cell stores a unit direction. Cells with line of sight to the goal point straight at it
+ * from their center; the rest follow the cheapest neighbour of a Dijkstra integration field
+ * (8-way, no corner cutting). Enemies {@link #sample} their cell and read its direction, except
+ * in the goal's cell and the ring around it ({@link #steersExactly}): there a direction from the
+ * cell's center can be well off (it points away from a goal inside the cell, and is zero on top
+ * of it), so those few enemies steer from their own position. No per-enemy allocation, and a
+ * square root per enemy only next to the goal.
+ *
+ * Cost of the work:
+ * - line-of-sight directions are re-aimed lazily, the first time a cell is sampled after the
+ *   goal moved, so only occupied cells pay (one sqrt per cell, shared by everyone in it);
+ * - the integration field and line-of-sight flags are rebuilt only when the goal changes cell
+ *   or the costs are invalidated, and skipped entirely while the world is {@link #OPEN}.
+ *
+ * Obstacles plug in through {@link CostSource} (a tile map, or a gdx-ai graph's node costs).
+ */
+public class FlowField {
+    public static final float DEFAULT_CELL_SIZE = 32f;
+
+    /** Traversal cost per cell, read when the field is rebuilt. */
+    public interface CostSource {
+        /** Impassable cell. */
+        int BLOCKED = -1;
+
+        /** @return 1 for normal ground, higher for slow ground, or {@link #BLOCKED} */
+        int cost(int cellX, int cellY);
+    }
+
+    /** No obstacles: every cell sees the goal, so the integration pass is skipped. */
+    public static final CostSource OPEN = new CostSource() {
+        @Override public int cost(int cellX, int cellY) { return 1; }
+    };
+
+    private static final int STRAIGHT = 10, DIAGONAL = 14;  // octile step costs, x10
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final float INV_SQRT2 = 0.70710678f;
+    private static final int[] NX = { 1, -1, 0, 0, 1, 1, -1, -1 };
+    private static final int[] NY = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+    private final float cellSize, invCellSize;
+    private final int cols, rows;
+
+    private final float[] dirX, dirY;
+    private final int[] costs;         // per cell, from the CostSource
+    private final int[] integration;   // cheapest cost to the goal cell
+    private final boolean[] sight;     // straight line to the goal crosses no blocked cell
+    private final int[] aimedAt;       // goalStamp each cell's direction was computed for
+
+    private CostSource source = OPEN;
+    private boolean costsDirty = true;
+    private boolean open = true;       // no blocked cells at all
+
+    private int goalCell = -1;
+    private float goalX = Float.NaN, goalY = Float.NaN;
+    private int goalStamp = 0;
+    private int rebuilds = 0;
+
+    // Dijkstra scratch: binary min-heap of (key, cell); stale entries are skipped on pop
+    private int[] heapKeys, heapCells;
+    private int heapSize;
+
+    public FlowField() {
+        this(SwordSurvivorGame.WORLD_WIDTH, SwordSurvivorGame.WORLD_HEIGHT, DEFAULT_CELL_SIZE);
+    }
+
+    public FlowField(float worldWidth, float worldHeight, float cellSize) {
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+        this.cols = Math.max(1, (int)Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int)Math.ceil(worldHeight / cellSize));
+        int cells = cols * rows;
+        dirX = new float[cells];
+        dirY = new float[cells];
+        costs = new int[cells];
+        integration = new int[cells];
+        sight = new boolean[cells];
+        aimedAt = new int[cells];
+        heapKeys = new int[cells * 2];
+        heapCells = new int[cells * 2];
+    }
+
+    public void setCostSource(CostSource source) {
+        this.source = source != null ? source : OPEN;
+        invalidateCosts();
+    }
+
+    /** Re-read the CostSource on the next {@link #setGoal} (call after obstacles change). */
+    public void invalidateCosts() {
+        costsDirty = true;
+    }
+
+    /**
+     * Forget the goal and re-read the costs, so the next {@link #setGoal} rebuilds everything
+     * as on a new field (a new run starting on the same Simulation).
+     */
+    public void reset() {
+        goalCell = -1;
+        goalX = Float.NaN;
+        goalY = Float.NaN;
+        costsDirty = true;
+    }
+
+    /** Point the field at the goal, refreshing only what the move made stale. */
+    public void setGoal(float x, float y) {
+        int cell = cellOf(x, y);
+        boolean rebuild = costsDirty || cell != goalCell;
+        if (!rebuild && x == goalX && y == goalY) return;
+
+        if (costsDirty) readCosts();
+        goalCell = cell;
+        goalX = x;
+        goalY = y;
+        if (rebuild) rebuild();
+        if (++goalStamp == 0) {
+            for (int c = 0; c < aimedAt.length; c++) aimedAt[c] = -1;
+        }
+    }
+
+    /** Cell index for a world position; positions off the world clamp to the border cells. */
+    public int cellOf(float x, float y) {
+        int cx = (int)(x * invCellSize), cy = (int)(y * invCellSize);
+        if (x < 0f || cx < 0) cx = 0; else if (cx >= cols) cx = cols - 1;
+        if (y < 0f || cy < 0) cy = 0; else if (cy >= rows) cy = rows - 1;
+        return cy * cols + cx;
+    }
+
+    /** Cell for a world position, with its direction brought up to date for the current goal. */
+    public int sample(float x, float y) {
+        int c = cellOf(x, y);
+        if (aimedAt[c] != goalStamp) aim(c);
+        return c;
+    }
+
+    /**
+     * Bring every cell's direction up to date for the current goal now, so {@link #sample} no
+     * longer writes anything until the next {@link #setGoal}. Call before sampling from several
+     * threads; the directions are the same ones lazy sampling would have produced.
+     */
+    public void aimAll() {
+        for (int c = 0, cells = cols * rows; c < cells; c++) {
+            if (aimedAt[c] != goalStamp) aim(c);
+        }
+    }
+
+    /**
+     * Unit direction of travel in a cell (zero where the goal is unreachable or reached).
+     * Only current for cells returned by {@link #sample} since the last {@link #setGoal}.
+     */
+    public float dirX(int cell) { return dirX[cell]; }
+    public float dirY(int cell) { return dirY[cell]; }
+
+    /**
+     * True for the goal's cell and its 8 neighbours when they can see the goal: enemies there
+     * should steer from their own position to {@link #getGoalX goal} rather than read the cell's
+     * direction.
+     */
+    public boolean steersExactly(int cell) {
+        if (goalCell < 0 || !sight[cell]) return false;
+        int dx = cell % cols - goalCell % cols, dy = cell / cols - goalCell / cols;
+        return dx >= -1 && dx <= 1 && dy >= -1 && dy <= 1;
+    }
+
+    /** The exact goal position from the last {@link #setGoal}. */
+    public float getGoalX() { return goalX; }
+    public float getGoalY() { return goalY; }
+
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+    public float getCellSize() { return cellSize; }
+
+    /** Integration/line-of-sight rebuilds so far (goal changed cell or costs changed). */
+    public int getRebuilds() { return rebuilds; }
+
+    private void readCosts() {
+        open = true;
+        for (int cy = 0; cy < rows; cy++) {
+            for (int cx = 0; cx < cols; cx++) {
+                int c = source.cost(cx, cy);
+                costs[cy * cols + cx] = c;
+                if (c == CostSource.BLOCKED) open = false;
+            }
+        }
+        costsDirty = false;
+    }
+
+    private void rebuild() {
+        rebuilds++;
+        int cells = cols * rows;
+        if (open) {
+            for (int c = 0; c < cells; c++) sight[c] = true;
+            return;
+        }
+
+        integrate();
+        float gx = (goalCell % cols + 0.5f) * cellSize, gy = (goalCell / cols + 0.5f) * cellSize;
+        for (int c = 0; c < cells; c++) {
+            sight[c] = costs[c] != CostSource.BLOCKED
+                && clearLine((c % cols + 0.5f) * cellSize, (c / cols + 0.5f) * cellSize, gx, gy);
+            if (!sight[c]) aimDownhill(c);
+        }
+    }
+
+    /** Dijkstra from the goal cell over octile steps scaled by the entered cell's cost. */
+    private void integrate() {
+        int cells = cols * rows;
+        for (int c = 0; c < cells; c++) integration[c] = UNREACHED;
+        heapSize = 0;
+        integration[goalCell] = 0;
+        push(0, goalCell);
+
+        while (heapSize > 0) {
+            int base = heapKeys[0];
+            int c = pop();
+            if (base != integration[c]) continue; // superseded by a cheaper entry
+            int cx = c % cols, cy = c / cols;
+            for (int k = 0; k < 8; k++) {
+                int nx = cx + NX[k], ny = cy + NY[k];
+                if (nx < 0 || ny < 0 || nx >= cols || ny >= rows) continue;
+                int n = ny * cols + nx;
+                if (costs[n] == CostSource.BLOCKED) continue;
+                if (k >= 4 && (costs[cy * cols + nx] == CostSource.BLOCKED
+                    || costs[ny * cols + cx] == CostSource.BLOCKED)) continue; // no corner cutting
+                int d = base + (k < 4 ? STRAIGHT : DIAGONAL) * costs[n];
+                if (d < integration[n]) {
+                    integration[n] = d;
+                    push(d, n);
+                }
+            }
+        }
+    }
+
+    /** Direction toward the cheapest reachable neighbour (cells without line of sight). */
+    private void aimDownhill(int c) {
+        int cx = c % cols, cy = c / cols;
+        int best = integration[c], bestK = -1;
+        for (int k = 0; k < 8; k++) {
+            int nx = cx + NX[k], ny = cy + NY[k];
+            if (nx < 0 || ny < 0 || nx >= cols || ny >= rows) continue;
+            if (k >= 4 && (costs[cy * cols + nx] == CostSource.BLOCKED
+                || costs[ny * cols + cx] == CostSource.BLOCKED)) continue;
+            int v = integration[ny * cols + nx];
+            if (v < best) { best = v; bestK = k; }
+        }
+        if (bestK < 0) {
+            dirX[c] = 0f;
+            dirY[c] = 0f;
+        } else {
+            float s = bestK < 4 ? 1f : INV_SQRT2;
+            dirX[c] = NX[bestK] * s;
+            dirY[c] = NY[bestK] * s;
+        }
+    }
+
+    /** Straight at the exact goal position from the cell's center, if the cell can see it. */
+    private void aim(int c) {
+        aimedAt[c] = goalStamp;
+        if (!sight[c]) return; // downhill direction was set by rebuild()
+        float dx = goalX - (c % cols + 0.5f) * cellSize;
+        float dy = goalY - (c / cols + 0.5f) * cellSize;
+        float len2 = dx*dx + dy*dy;
+        if (len2 > 1e-4f) {
+            float inv = 1f / (float)Math.sqrt(len2);
+            dirX[c] = dx * inv;
+            dirY[c] = dy * inv;
+        } else {
+            dirX[c] = 0f;
+            dirY[c] = 0f;
+        }
+    }
+
+    /** Walk the segment in half-cell steps; false if any sample lands in a blocked cell. */
+    private boolean clearLine(float x0, float y0, float x1, float y1) {
+        float dx = x1 - x0, dy = y1 - y0;
+        int steps = (int)(Math.max(Math.abs(dx), Math.abs(dy)) * invCellSize * 2f) + 1;
+        float sx = dx / steps, sy = dy / steps;
+        float x = x0, y = y0;
+        for (int i = 0; i <= steps; i++, x += sx, y += sy) {
+            if (costs[cellOf(x, y)] == CostSource.BLOCKED) return false;
+        }
+        return true;
+    }
+
+    private void push(int key, int cell) {
+        if (heapSize == heapKeys.length) {
+            int[] keys = new int[heapSize * 2], cells = new int[heapSize * 2];
+            System.arraycopy(heapKeys, 0, keys, 0, heapSize);
+            System.arraycopy(heapCells, 0, cells, 0, heapSize);
+            heapKeys = keys;
+            heapCells = cells;
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >> 1;
+            if (heapKeys[parent] <= key) break;
+            heapKeys[i] = heapKeys[parent];
+            heapCells[i] = heapCells[parent];
+            i = parent;
+        }
+        heapKeys[i] = key;
+        heapCells[i] = cell;
+    }
+
+    /** Remove the minimum entry; @return its cell (read its key from heapKeys[0] first) */
+    private int pop() {
+        int top = heapCells[0];
+        int n = --heapSize;
+        int key = heapKeys[n], cell = heapCells[n];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && heapKeys[child + 1] < heapKeys[child]) child++;
+            if (heapKeys[child] >= key) break;
+            heapKeys[i] = heapKeys[child];
+            heapCells[i] = heapCells[child];
+            i = child;
+        }
+        heapKeys[i] = key;
+        heapCells[i] = cell;
+        return top;
+    }
+}
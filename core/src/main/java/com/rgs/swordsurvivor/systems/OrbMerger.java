@@ -0,0 +1,118 @@
+package com.rgs.swordsurvivor.systems;
+
+import com.badlogic.gdx.utils.Array;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.entities.Orb;
+
+/**
+ * Keeps the orb count bounded by coalescing orbs that lie in the same grid cell into one orb
+ * carrying the summed value (no XP is ever lost).
+ *
+ * Each cell remembers at most one "owner" orb. Every step a slice of the orb array is scanned:
+ * an orb claims its cell if the cell is free, otherwise it is folded into the owner and freed.
+ * Work per step is bounded by {@link #SCAN_PER_STEP} regardless of how many orbs are lying around.
+ *
+ * While the count stays above the budget the cells get coarser (32, 64, then 128 px), which caps
+ * settled orbs at roughly one per 128 px cell; once the floor is cleared they go back to fine cells.
+ *
+ * Ownership is checked lazily through {@link Orb#cell} (reset to -1 when an orb is freed), so
+ * picking up or recycling an owner needs no bookkeeping here.
+ */
+public class OrbMerger {
+    public static final int DEFAULT_BUDGET = 256;
+    static final int SCAN_PER_STEP = 64;
+    static final float BASE_CELL_SIZE = 32f;
+    static final int MAX_LEVEL = 2;            // BASE_CELL_SIZE << MAX_LEVEL = 128 px
+    static final float MERGED_RADIUS_STEP = 0.5f;
+    static final float MAX_RADIUS = 10f;
+
+    private final EntityPools pools;
+    private final int budget;
+
+    private final Orb[] owners;
+    private int level = 0;
+    private float invCellSize;
+    private int cols, rows;
+    private int cursor = 0;
+    private int merges = 0;
+
+    public OrbMerger(EntityPools pools) {
+        this(pools, DEFAULT_BUDGET);
+    }
+
+    public OrbMerger(EntityPools pools, int budget) {
+        this.pools = pools;
+        this.budget = budget;
+        int maxCols = (int)Math.ceil(SwordSurvivorGame.WORLD_WIDTH / BASE_CELL_SIZE);
+        int maxRows = (int)Math.ceil(SwordSurvivorGame.WORLD_HEIGHT / BASE_CELL_SIZE);
+        this.owners = new Orb[maxCols * maxRows];
+        setLevel(0, null);
+    }
+
+    /** Forget all cells (run restart; the orbs themselves are freed by the caller). */
+    public void reset() {
+        setLevel(0, null);
+        cursor = 0;
+        merges = 0;
+    }
+
+    /** Orbs folded into another since the last reset. */
+    public int getMerges() { return merges; }
+
+    /** Current cell size in world units. */
+    public float getCellSize() { return BASE_CELL_SIZE * (1 << level); }
+
+    /**
+     * Scan the next slice of orbs and fold any that share a cell.
+     * @param orbs the live orbs; must be unordered (merged orbs are swap-removed)
+     */
+    public void update(Array<Orb> orbs) {
+        if (orbs.size > budget && level < MAX_LEVEL) setLevel(level + 1, orbs);
+        else if (orbs.size < budget / 4 && level > 0) setLevel(level - 1, orbs);
+
+        for (int n = 0; n < SCAN_PER_STEP && orbs.size > 0; n++) {
+            if (cursor >= orbs.size) cursor = 0;
+            Orb o = orbs.get(cursor);
+            int c = cellOf(o.pos.x, o.pos.y);
+
+            if (o.cell != c) {
+                if (o.cell >= 0 && owners[o.cell] == o) owners[o.cell] = null; // moved out (magnet)
+                o.cell = -1;
+            }
+
+            Orb owner = owners[c];
+            if (owner == null || owner == o || owner.cell != c) {
+                owners[c] = o;
+                o.cell = c;
+                cursor++;
+                continue;
+            }
+
+            // Fold into the owner; the swapped-in orb gets scanned at this same index next
+            owner.value += o.value;
+            owner.radius = Math.min(MAX_RADIUS, owner.radius + MERGED_RADIUS_STEP);
+            pools.free(orbs.removeIndex(cursor));
+            merges++;
+        }
+    }
+
+    private void setLevel(int level, Array<Orb> orbs) {
+        this.level = level;
+        float cellSize = BASE_CELL_SIZE * (1 << level);
+        this.invCellSize = 1f / cellSize;
+        this.cols = (int)Math.ceil(SwordSurvivorGame.WORLD_WIDTH / cellSize);
+        this.rows = (int)Math.ceil(SwordSurvivorGame.WORLD_HEIGHT / cellSize);
+        for (int i = 0; i < owners.length; i++) owners[i] = null;
+        if (orbs != null) {
+            for (int i = 0; i < orbs.size; i++) orbs.get(i).cell = -1;
+        }
+    }
+
+    private int cellOf(float x, float y) {
+        int cx = (int)(x * invCellSize), cy = (int)(y * invCellSize);
+        if (x < 0f || cx < 0) cx = 0; else if (cx >= cols) cx = cols - 1;
+        if (y < 0f || cy < 0) cy = 0; else if (cy >= rows) cy = rows - 1;
+        return cy * cols + cx;
+    }
+}
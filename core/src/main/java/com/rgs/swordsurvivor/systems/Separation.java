@@ -0,0 +1,135 @@
+package com.rgs.swordsurvivor.systems;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+
+import com.rgs.swordsurvivor.entities.EnemyStore;
+import com.rgs.swordsurvivor.jobs.JobSystem;
+
+/**
+ * Soft collision between enemies so crowds spread into a ring instead of collapsing on the player.
+ *
+ * Overlapping pairs come from the enemy {@link SpatialGrid} (built from the store this step, ids
+ * = rows), so the pass stays near O(N) and big bodies are found from every cell they cover.
+ * Each pair is pushed apart along the line between centers, split by mass (radius squared):
+ * a FireOrb shoves NORMALs aside and barely moves.
+ *
+ * A pass is Jacobi-style: every pair's push is computed from the positions at the start of the
+ * pass (in parallel through a {@link JobSystem} when the platform has threads), then all pushes
+ * are applied in pair order. The result is bit-identical on one thread or many.
+ *
+ * Budget per step: at most {@link #setPairBudget} pairs are collected (starting from a different
+ * grid cell each step, so a crushed crowd is still covered over a few steps), then relaxed with
+ * {@link #setIterations} passes. Bodies can't all fit once the horde outgrows the arena, so
+ * separation is best-effort there and the budget keeps its cost flat.
+ */
+public class Separation {
+    public static final int DEFAULT_ITERATIONS = 2;
+    public static final int DEFAULT_PAIR_BUDGET = 20000;
+    /** Fraction of the overlap removed per pass; below 1 keeps dense crowds from jittering. */
+    public static final float DEFAULT_STIFFNESS = 0.5f;
+
+    /** Pairs per slice when the push pass runs on several threads. */
+    static final int PAIR_GRAIN = 1024;
+
+    private final IntArray pairs = new IntArray();
+    private float[] moves = new float[256];    // per pair: a's dx, dy then b's dx, dy
+    private final JobSystem.Job pushJob = new JobSystem.Job() {
+        @Override public void run(int from, int to) { computePushes(from, to); }
+    };
+    private float[] x, y, r;                   // the store's arrays, during resolve() only
+    private int iterations = DEFAULT_ITERATIONS;
+    private int pairBudget = DEFAULT_PAIR_BUDGET;
+    private float stiffness = DEFAULT_STIFFNESS;
+    private int firstCell = 0;
+    private int lastPairs = 0;
+
+    /** Back to the state of a new instance (a new run): the budget rotation starts at cell 0 again. */
+    public void reset() {
+        firstCell = 0;
+        lastPairs = 0;
+    }
+
+    public void setIterations(int iterations) { this.iterations = Math.max(0, iterations); }
+    public void setPairBudget(int pairBudget) { this.pairBudget = Math.max(1, pairBudget); }
+    public void setStiffness(float stiffness) { this.stiffness = stiffness; }
+
+    public int getIterations() { return iterations; }
+    public int getPairBudget() { return pairBudget; }
+
+    /** Overlapping pairs handled in the last {@link #resolve} (equals the budget when it was hit). */
+    public int getLastPairs() { return lastPairs; }
+
+    /** Same as {@link #resolve(EnemyStore, SpatialGrid, JobSystem)} on the calling thread. */
+    public boolean resolve(EnemyStore enemies, SpatialGrid grid) {
+        return resolve(enemies, grid, JobSystem.SERIAL);
+    }
+
+    /**
+     * Push overlapping enemies apart.
+     * @param grid built from {@code enemies} this step (ids = rows)
+     * @param jobs runs the per-pair push computation; the pushes are then applied in pair order,
+     *             so the outcome doesn't depend on how many threads ran
+     * @return true if anything moved (the grid is then stale)
+     */
+    public boolean resolve(EnemyStore enemies, SpatialGrid grid, JobSystem jobs) {
+        int count = grid.collectPairs(pairs, pairBudget, firstCell);
+        lastPairs = count;
+        if (count == pairBudget) firstCell += grid.cellCount() / 7 + 1; // budget hit: start elsewhere next time
+        if (count == 0 || iterations == 0) return false;
+
+        if (moves.length < count * 4) moves = new float[Math.max(count * 4, moves.length * 2)];
+        x = enemies.x;
+        y = enemies.y;
+        r = enemies.radius;
+        int[] items = pairs.items;
+
+        for (int it = 0; it < iterations; it++) {
+            jobs.forEach(count, PAIR_GRAIN, pushJob);
+            for (int p = 0, m = 0; p < count; p++, m += 4) {
+                int a = items[2 * p], b = items[2 * p + 1];
+                x[a] += moves[m];
+                y[a] += moves[m + 1];
+                x[b] += moves[m + 2];
+                y[b] += moves[m + 3];
+            }
+        }
+        x = y = r = null;
+        return true;
+    }
+
+    /** Pushes for pairs from..to-1 into moves[], from positions as they were when the pass began. */
+    private void computePushes(int from, int to) {
+        int[] items = pairs.items;
+        for (int p = from; p < to; p++) {
+            int a = items[2 * p], b = items[2 * p + 1], m = 4 * p;
+            float dx = x[b] - x[a], dy = y[b] - y[a];
+            float rr = r[a] + r[b];
+            float d2 = dx*dx + dy*dy;
+            if (d2 >= rr*rr) { // already resolved by an earlier pass
+                moves[m] = moves[m + 1] = moves[m + 2] = moves[m + 3] = 0f;
+                continue;
+            }
+
+            float nx, ny, d;
+            if (d2 > 1e-6f) {
+                d = (float)Math.sqrt(d2);
+                nx = dx / d;
+                ny = dy / d;
+            } else {
+                // exactly stacked: split along a direction derived from the pair ids
+                d = 0f;
+                float angle = (a * 73 + b * 151) * 0.618034f * MathUtils.PI2;
+                nx = MathUtils.cos(angle);
+                ny = MathUtils.sin(angle);
+            }
+
+            float ma = r[a] * r[a], mb = r[b] * r[b];
+            float push = (rr - d) * stiffness / (ma + mb);
+            moves[m]     = -nx * push * mb;
+            moves[m + 1] = -ny * push * mb;
+            moves[m + 2] =  nx * push * ma;
+            moves[m + 3] =  ny * push * ma;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.rgs.swordsurvivor.systems;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.combat.SweptArc;
+
+/**
+ * Uniform grid broadphase over the world (WORLD_WIDTH x WORLD_HEIGHT).
+ *
+ * Rebuilt once per frame: {@link #begin()}, {@link #add} every body (ids are handed out in
+ * insertion order, so they match the caller's array index), then {@link #build()}.
+ * A body is stored in every cell its bounding box touches, so big bodies (Golem, Obby, FireOrb)
+ * are found from any cell they overlap without inflating every query by the largest radius.
+ * Bodies outside the world (spawns just past the edge) are clamped into the border cells.
+ *
+ * After warm-up nothing here allocates: all storage is grown in place and reused.
+ */
+public class SpatialGrid {
+    public static final float DEFAULT_CELL_SIZE = 64f;
+
+    private final float invCellSize;
+    private final int cols, rows;
+
+    // Per-body data (indexed by id)
+    private float[] xs = new float[128];
+    private float[] ys = new float[128];
+    private float[] rs = new float[128];
+    private int[] marks = new int[128]; // query stamp, dedupes bodies stored in several cells
+    private int count = 0;
+
+    // Counting-sort buckets: ids for cell c live in cellItems[cellStart[c] .. cellStart[c+1])
+    private final int[] cellStart;
+    private final int[] cellFill;
+    private int[] cellItems = new int[512];
+
+    private int stamp = 0;
+
+    public SpatialGrid() {
+        this(SwordSurvivorGame.WORLD_WIDTH, SwordSurvivorGame.WORLD_HEIGHT, DEFAULT_CELL_SIZE);
+    }
+
+    public SpatialGrid(float worldWidth, float worldHeight, float cellSize) {
+        this.invCellSize = 1f / cellSize;
+        this.cols = Math.max(1, (int)Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int)Math.ceil(worldHeight / cellSize));
+        this.cellStart = new int[cols * rows + 1];
+        this.cellFill = new int[cols * rows];
+    }
+
+    public int size() { return count; }
+
+    /** Drop all bodies; call before re-adding this frame's positions. */
+    public void begin() {
+        count = 0;
+    }
+
+    /** Add a circular body. @return its id (= number of bodies added before it this frame) */
+    public int add(float x, float y, float radius) {
+        if (count == xs.length) grow(count * 2);
+        xs[count] = x;
+        ys[count] = y;
+        rs[count] = radius;
+        marks[count] = 0;
+        return count++;
+    }
+
+    /** Bucket all added bodies into cells. Must be called before querying. */
+    public void build() {
+        int cells = cols * rows;
+        for (int c = 0; c <= cells; c++) cellStart[c] = 0;
+
+        // Pass 1: count entries per cell
+        int entries = 0;
+        for (int i = 0; i < count; i++) {
+            float r = rs[i];
+            int cx0 = cellX(xs[i] - r), cx1 = cellX(xs[i] + r);
+            int cy0 = cellY(ys[i] - r), cy1 = cellY(ys[i] + r);
+            for (int cy = cy0; cy <= cy1; cy++) {
+                int row = cy * cols;
+                for (int cx = cx0; cx <= cx1; cx++) cellStart[row + cx + 1]++;
+            }
+            entries += (cx1 - cx0 + 1) * (cy1 - cy0 + 1);
+        }
+        if (entries > cellItems.length) cellItems = new int[Math.max(entries, cellItems.length * 2)];
+
+        // Prefix sum -> start offsets
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+            cellFill[c] = cellStart[c];
+        }
+
+        // Pass 2: scatter ids
+        for (int i = 0; i < count; i++) {
+            float r = rs[i];
+            int cx0 = cellX(xs[i] - r), cx1 = cellX(xs[i] + r);
+            int cy0 = cellY(ys[i] - r), cy1 = cellY(ys[i] + r);
+            for (int cy = cy0; cy <= cy1; cy++) {
+                int row = cy * cols;
+                for (int cx = cx0; cx <= cx1; cx++) cellItems[cellFill[row + cx]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Bodies overlapping the circle (cx, cy, radius), strictly (touching edges don't count).
+     * @param out cleared, then filled with ids in ascending order
+     */
+    public void queryCircle(float cx, float cy, float radius, IntArray out) {
+        out.clear();
+        int s = nextStamp();
+        int cx0 = cellX(cx - radius), cx1 = cellX(cx + radius);
+        int cy0 = cellY(cy - radius), cy1 = cellY(cy + radius);
+        for (int gy = cy0; gy <= cy1; gy++) {
+            int row = gy * cols;
+            for (int gx = cx0; gx <= cx1; gx++) {
+                int c = row + gx;
+                for (int k = cellStart[c], end = cellStart[c + 1]; k < end; k++) {
+                    int i = cellItems[k];
+                    if (marks[i] == s) continue;
+                    marks[i] = s;
+                    float dx = xs[i] - cx, dy = ys[i] - cy;
+                    float rr = radius + rs[i];
+                    if (dx*dx + dy*dy < rr*rr) out.add(i);
+                }
+            }
+        }
+        sortHits(out);
+    }
+
+    /**
+     * Bodies touched by this frame's sword sweep (see {@link SweptArc}).
+     * @param out cleared, then filled with ids in ascending order
+     */
+    public void querySweptArc(SweptArc arc, IntArray out) {
+        out.clear();
+        int s = nextStamp();
+        int cx0 = cellX(arc.getMinX()), cx1 = cellX(arc.getMaxX());
+        int cy0 = cellY(arc.getMinY()), cy1 = cellY(arc.getMaxY());
+        for (int gy = cy0; gy <= cy1; gy++) {
+            int row = gy * cols;
+            for (int gx = cx0; gx <= cx1; gx++) {
+                int c = row + gx;
+                for (int k = cellStart[c], end = cellStart[c + 1]; k < end; k++) {
+                    int i = cellItems[k];
+                    if (marks[i] == s) continue;
+                    marks[i] = s;
+                    if (arc.overlaps(xs[i], ys[i], rs[i])) out.add(i);
+                }
+            }
+        }
+        sortHits(out);
+    }
+
+    /**
+     * Pairs of bodies that overlap (strictly), each reported once even when both span several
+     * shared cells: a pair belongs to the cell holding the min corner of their bounding box
+     * intersection, which both are stored in.
+     *
+     * Cells are visited from firstCell onward (wrapping) and collection stops at maxPairs, so in
+     * a crushed crowd the cost is capped; rotate firstCell between calls to spread the coverage.
+     * @param out cleared, then filled with flat (a, b) id pairs
+     * @return number of pairs
+     */
+    public int collectPairs(IntArray out, int maxPairs, int firstCell) {
+        out.clear();
+        int cells = cols * rows;
+        int c = Math.floorMod(firstCell, cells);
+        for (int visited = 0; visited < cells; visited++, c = (c + 1 == cells) ? 0 : c + 1) {
+            int gx = c % cols, gy = c / cols;
+            int start = cellStart[c], end = cellStart[c + 1];
+            for (int p = start; p < end - 1; p++) {
+                int a = cellItems[p];
+                float ax = xs[a], ay = ys[a], ar = rs[a];
+                for (int q = p + 1; q < end; q++) {
+                    int b = cellItems[q];
+                    float dx = xs[b] - ax, dy = ys[b] - ay;
+                    float rr = ar + rs[b];
+                    if (dx*dx + dy*dy >= rr*rr) continue;
+                    if (cellX(Math.max(ax - ar, xs[b] - rs[b])) != gx) continue; // owned by another cell
+                    if (cellY(Math.max(ay - ar, ys[b] - rs[b])) != gy) continue;
+                    out.add(a, b);
+                    if (out.size >> 1 >= maxPairs) return maxPairs;
+                }
+            }
+        }
+        return out.size / 2;
+    }
+
+    /** Number of cells; valid firstCell values for {@link #collectPairs} are 0 .. cellCount()-1. */
+    public int cellCount() { return cols * rows; }
+
+    /**
+     * Ascending, in place. Hits come out of the cells in nearly sorted runs and there are few of
+     * them, so insertion sort wins; IntArray.sort() can allocate a merge buffer on such input.
+     */
+    private static void sortHits(IntArray out) {
+        int[] a = out.items;
+        for (int i = 1, n = out.size; i < n; i++) {
+            int v = a[i], j = i - 1;
+            while (j >= 0 && a[j] > v) { a[j + 1] = a[j]; j--; }
+            a[j + 1] = v;
+        }
+    }
+
+    private int cellX(float x) {
+        int c = (int)(x * invCellSize);
+        if (x < 0f || c < 0) return 0;
+        return c >= cols ? cols - 1 : c;
+    }
+
+    private int cellY(float y) {
+        int c = (int)(y * invCellSize);
+        if (y < 0f || c < 0) return 0;
+        return c >= rows ? rows - 1 : c;
+    }
+
+    private int nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            for (int i = 0; i < marks.length; i++) marks[i] = 0;
+            stamp = 1;
+        }
+        return stamp;
+    }
+
+    private void grow(int capacity) {
+        float[] nx = new float[capacity], ny = new float[capacity], nr = new float[capacity];
+        int[] nm = new int[capacity];
+        System.arraycopy(xs, 0, nx, 0, count);
+        System.arraycopy(ys, 0, ny, 0, count);
+        System.arraycopy(rs, 0, nr, 0, count);
+        System.arraycopy(marks, 0, nm, 0, count);
+        xs = nx; ys = ny; rs = nr; marks = nm;
+    }
+}
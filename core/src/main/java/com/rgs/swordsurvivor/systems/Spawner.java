@@ -1,16 +1,16 @@
 package com.rgs.swordsurvivor.systems;
 
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
-
-import com.rgs.swordsurvivor.entities.Enemy;
-import com.rgs.swordsurvivor.entities.Brute;
-import com.rgs.swordsurvivor.entities.Golem;
-import com.rgs.swordsurvivor.entities.Obby;
-import com.rgs.swordsurvivor.entities.FireOrb;
+import com.rgs.swordsurvivor.entities.EnemyStore;
+import com.rgs.swordsurvivor.entities.EnemyType;
+import com.rgs.swordsurvivor.metrics.Counter;
+import com.rgs.swordsurvivor.metrics.Metrics;
+import com.rgs.swordsurvivor.util.Rng;
 
 public class Spawner {
 
+    // Spawn edge/position/type rolls (the owner reseeds it per run)
+    private final Rng rng;
+
     // ---- Wave timing & scaling ----
     private int wave = 1;
     private float waveTimer = 0f;
@@ -32,6 +32,22 @@ public class Spawner {
     // Pending spawns that GameScreen will consume with shouldSpawn()
     private int pendingSpawns = 0;
 
+    // Spawns in total and per type (EnemyType ordinal)
+    private final Counter spawned;
+    private final Counter[] spawnedByType = new Counter[EnemyType.ALL.length];
+
+    public Spawner(Rng rng) {
+        this(rng, new Metrics());
+    }
+
+    public Spawner(Rng rng, Metrics metrics) {
+        this.rng = rng;
+        this.spawned = metrics.counter("spawn.enemies");
+        for (EnemyType t : EnemyType.ALL) {
+            spawnedByType[t.ordinal()] = metrics.counter("spawn." + t.name().toLowerCase());
+        }
+    }
+
     public void reset() {
         wave = 1;
         waveTimer = 0f;
@@ -41,6 +57,12 @@ public class Spawner {
 
     public int getWave() { return wave; }
 
+    /** Jump straight to the start of a wave (debugging, benchmarks). */
+    public void setWave(int wave) {
+        reset();
+        this.wave = Math.max(1, wave);
+    }
+
     public void update(float dt) {
         // ---- Wave timer & progression ----
         waveTimer += dt;
@@ -69,60 +91,77 @@ public class Spawner {
         return false;
     }
 
-    /** Create a new enemy just outside the current camera view. */
-    public Enemy spawnEnemyAroundView(float cx, float cy, float vw, float vh) {
+    /**
+     * Probability that a spawn in {@code wave} is of {@code type}; 0 before the type's gate wave.
+     * NORMAL takes whatever the other buckets leave.
+     */
+    public static float chanceOf(EnemyType type, int wave) {
+        switch (type) {
+            // Brute: starts wave 2, up to 35%
+            case BRUTE:    return (wave >= 2)  ? Math.min(0.35f, 0.06f + 0.025f * (wave - 2)) : 0f;
+            // Golem: starts wave 5, up to 20%
+            case GOLEM:    return (wave >= 5)  ? Math.min(0.20f, 0.04f + 0.02f  * (wave - 5)) : 0f;
+            // Obby:  starts wave 10, up to 15%
+            case OBBY:     return (wave >= 10) ? Math.min(0.15f, 0.03f + 0.015f * (wave - 10)) : 0f;
+            // FireOrb: starts wave 50, up to 10%
+            case FIRE_ORB: return (wave >= 50) ? Math.min(0.10f, 0.02f + 0.01f  * (wave - 50)) : 0f;
+            default:
+                return 1f - chanceOf(EnemyType.BRUTE, wave) - chanceOf(EnemyType.GOLEM, wave)
+                    - chanceOf(EnemyType.OBBY, wave) - chanceOf(EnemyType.FIRE_ORB, wave);
+        }
+    }
+
+    /** Add a new enemy to the store just outside the current camera view. @return its row */
+    public int spawnEnemyAroundView(EnemyStore enemies, float cx, float cy, float vw, float vh) {
         // --- Choose a spawn edge around the view and offset slightly outward ---
-        int edge = MathUtils.random(3);
+        int edge = rng.nextInt(4);
         float x = cx, y = cy;
         if (edge == 0) { // left
             x = cx - vw / 2f - 64f;
-            y = cy + MathUtils.random(-vh / 2f, vh / 2f);
+            y = cy + rng.range(-vh / 2f, vh / 2f);
         } else if (edge == 1) { // right
             x = cx + vw / 2f + 64f;
-            y = cy + MathUtils.random(-vh / 2f, vh / 2f);
+            y = cy + rng.range(-vh / 2f, vh / 2f);
         } else if (edge == 2) { // top
-            x = cx + MathUtils.random(-vw / 2f, vw / 2f);
+            x = cx + rng.range(-vw / 2f, vw / 2f);
             y = cy + vh / 2f + 64f;
         } else { // bottom
-            x = cx + MathUtils.random(-vw / 2f, vw / 2f);
+            x = cx + rng.range(-vw / 2f, vw / 2f);
             y = cy - vh / 2f - 64f;
         }
 
-        Vector2 pos = new Vector2(x, y);
-
         // --- Type selection with wave gates (ordered buckets) ---
-        // Brute: starts wave 2, up to 35%
-        float bruteChance = (wave >= 2)  ? Math.min(0.35f, 0.06f + 0.025f * (wave - 2)) : 0f;
-        // Golem: starts wave 5, up to 20%
-        float golemChance = (wave >= 5)  ? Math.min(0.20f, 0.04f + 0.02f  * (wave - 5)) : 0f;
-        // Obby:  starts wave 10, up to 15%
-        float obbyChance  = (wave >= 10) ? Math.min(0.15f, 0.03f + 0.015f * (wave - 10)) : 0f;
-        // FireOrb: starts wave 15, up to 10%
-        float fireChance  = (wave >= 50) ? Math.min(0.10f, 0.02f + 0.01f  * (wave - 50)) : 0f;
-
-        float r = MathUtils.random();
-        Enemy e;
+        float bruteChance = chanceOf(EnemyType.BRUTE, wave);
+        float golemChance = chanceOf(EnemyType.GOLEM, wave);
+        float obbyChance  = chanceOf(EnemyType.OBBY, wave);
+        float fireChance  = chanceOf(EnemyType.FIRE_ORB, wave);
+
+        float r = rng.nextFloat();
+        EnemyType type;
         if (r < fireChance) {
-            e = new FireOrb(pos);
+            type = EnemyType.FIRE_ORB;
         } else if (r < fireChance + obbyChance) {
-            e = new Obby(pos);
+            type = EnemyType.OBBY;
         } else if (r < fireChance + obbyChance + golemChance) {
-            e = new Golem(pos);
+            type = EnemyType.GOLEM;
         } else if (r < fireChance + obbyChance + golemChance + bruteChance) {
-            e = new Brute(pos);
+            type = EnemyType.BRUTE;
         } else {
-            e = new Enemy(pos);
+            type = EnemyType.NORMAL;
         }
+        int i = enemies.add(type, x, y);
+        spawned.inc();
+        spawnedByType[type.ordinal()].inc();
 
         // --- Per-wave difficulty scaling (applies to all enemy types) ---
         // HP scaling: +5% per wave
         float hpScale = (float) Math.pow(1.05, Math.max(0, wave - 1));
-        e.hp = Math.round(e.hp * hpScale);
+        enemies.hp[i] = Math.round(enemies.hp[i] * hpScale);
 
         // Contact dmg scales gently: +2% per wave
         float dmgScale = (float) Math.pow(1.02, Math.max(0, wave - 1));
-        e.touchDamage = Math.max(1, Math.round(e.touchDamage * dmgScale));
+        enemies.touchDamage[i] = Math.max(1, Math.round(enemies.touchDamage[i] * dmgScale));
 
-        return e;
+        return i;
     }
 }
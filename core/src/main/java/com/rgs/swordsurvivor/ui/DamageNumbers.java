@@ -0,0 +1,161 @@
+package com.rgs.swordsurvivor.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+
+/**
+ * Floating damage numbers that rise and fade, drawn in world space: one ring buffer, one update
+ * loop and one draw pass, instead of an Actor and a GlyphLayout per hit.
+ *
+ * - Digit quads are taken from the font once ({@link #setFont}); drawing a number is a
+ *   batch.draw per digit with no layout.
+ * - A hit landing within {@link #MERGE_DISTANCE} of a number that was hit less than
+ *   {@link #MERGE_WINDOW} seconds ago adds to it (the same enemy, in practice: the listener
+ *   reports where the enemy is, and enemies barely move in that time). Crits tint the sum.
+ * - At most {@code capacity} numbers are alive; past that the oldest is dropped for the new one.
+ */
+public class DamageNumbers {
+    public static final int DEFAULT_CAPACITY = 128;
+    static final float LIFETIME = 0.8f;       // seconds before a number is gone
+    static final float RISE_SPEED = 40f;      // world units per second
+    static final float MERGE_WINDOW = 0.15f;
+    static final float MERGE_DISTANCE = 24f;
+    private static final int MAX_DIGITS = 10;
+
+    // Ring buffer, oldest at head; ages only grow, so expiry always happens at the head
+    private final float[] x, y, age, sinceHit;
+    private final int[] amount;
+    private final boolean[] crit;
+    private final int capacity;
+    private int head = 0, size = 0;
+
+    // Digit quads relative to the number's top-left, from the font (see setFont)
+    private Texture page;
+    private final float[] digitX = new float[10], digitY = new float[10];
+    private final float[] digitW = new float[10], digitH = new float[10];
+    private final float[] digitU = new float[10], digitV = new float[10];
+    private final float[] digitU2 = new float[10], digitV2 = new float[10];
+    private final float[] digitAdvance = new float[10];
+    private final int[] digits = new int[MAX_DIGITS];
+    private final Color tint = new Color();
+
+    public DamageNumbers() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DamageNumbers(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        age = new float[capacity];
+        sinceHit = new float[capacity];
+        amount = new int[capacity];
+        crit = new boolean[capacity];
+    }
+
+    /**
+     * Capture the quads of '0'..'9' at the font's current scale (its first page). Call again if
+     * the font or its scale changes.
+     */
+    public void setFont(BitmapFont font) {
+        BitmapFontCache cache = new BitmapFontCache(font);
+        for (int d = 0; d < 10; d++) {
+            cache.setText(String.valueOf((char)('0' + d)), 0f, 0f);
+            float[] v = cache.getVertices(0); // x, y, color, u, v per corner: BL, TL, TR, BR
+            digitX[d] = v[0];
+            digitY[d] = v[1];
+            digitW[d] = v[10] - v[0];
+            digitH[d] = v[11] - v[1];
+            digitU[d] = v[3];
+            digitV[d] = v[4];
+            digitU2[d] = v[13];
+            digitV2[d] = v[14];
+            BitmapFont.Glyph g = font.getData().getGlyph((char)('0' + d));
+            digitAdvance[d] = g != null ? g.xadvance * font.getData().scaleX : digitW[d];
+        }
+        page = font.getRegion(0).getTexture();
+    }
+
+    /** A hit for {@code damage} at (worldX, worldY): merged into a fresh number there, or a new one. */
+    public void add(float worldX, float worldY, int damage, boolean isCrit) {
+        for (int k = 0; k < size; k++) {
+            int i = (head + k) % capacity;
+            if (sinceHit[i] >= MERGE_WINDOW) continue;
+            float dx = x[i] - worldX, dy = y[i] - worldY;
+            if (dx*dx + dy*dy > MERGE_DISTANCE * MERGE_DISTANCE) continue;
+            amount[i] += damage;
+            crit[i] |= isCrit;
+            sinceHit[i] = 0f;
+            return;
+        }
+
+        if (size == capacity) { // full: the oldest makes room
+            head = (head + 1) % capacity;
+            size--;
+        }
+        int i = (head + size) % capacity;
+        size++;
+        x[i] = worldX;
+        y[i] = worldY;
+        age[i] = 0f;
+        sinceHit[i] = 0f;
+        amount[i] = damage;
+        crit[i] = isCrit;
+    }
+
+    /** Age every number and drop the expired ones. */
+    public void update(float delta) {
+        for (int k = 0; k < size; k++) {
+            int i = (head + k) % capacity;
+            age[i] += delta;
+            sinceHit[i] += delta;
+        }
+        while (size > 0 && age[head] >= LIFETIME) {
+            head = (head + 1) % capacity;
+            size--;
+        }
+    }
+
+    /** Draw every live number; the batch must be begun with the world camera. */
+    public void draw(Batch batch) {
+        if (size == 0 || page == null) return;
+        float oldColor = batch.getPackedColor();
+        for (int k = 0; k < size; k++) {
+            int i = (head + k) % capacity;
+            float alpha = Math.max(0f, 1f - age[i] / LIFETIME);
+            Color c = crit[i] ? Color.ORANGE : Color.WHITE;
+            batch.setColor(tint.set(c.r, c.g, c.b, alpha));
+
+            // Digits least significant first, then drawn left to right, centered on x
+            int n = 0;
+            int value = Math.max(0, amount[i]);
+            do {
+                digits[n++] = value % 10;
+                value /= 10;
+            } while (value > 0 && n < MAX_DIGITS);
+            float width = 0f;
+            for (int j = 0; j < n; j++) width += digitAdvance[digits[j]];
+
+            // Whole units, like BitmapFont's integer positions: nearest-filtered glyphs stay crisp
+            float penX = Math.round(x[i] - width / 2f), top = Math.round(y[i] + age[i] * RISE_SPEED);
+            for (int j = n - 1; j >= 0; j--) {
+                int d = digits[j];
+                batch.draw(page, penX + digitX[d], top + digitY[d], digitW[d], digitH[d],
+                    digitU[d], digitV[d], digitU2[d], digitV2[d]);
+                penX += digitAdvance[d];
+            }
+        }
+        batch.setPackedColor(oldColor);
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /** Numbers currently alive. */
+    public int size() { return size; }
+}
@@ -1,7 +1,6 @@
 package com.rgs.swordsurvivor.ui;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Group;
@@ -19,6 +18,8 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 
+import com.rgs.swordsurvivor.assets.Assets;
+
 public class GameOverMenu extends Group {
 
     public interface Listener {
@@ -26,16 +27,15 @@ public class GameOverMenu extends Group {
         void onMainMenu();
     }
 
-    private final Texture dimTex, panelTex, btnUp, btnOver, btnDown;
     private final Table panel;
     private final Label scoreLabel;
 
-    public GameOverMenu(BitmapFont font, final Listener listener) {
-        dimTex = solid(0f,0f,0f,1f);
-        panelTex = solid(0.12f,0.10f,0.10f,1f);
-        btnUp   = solid(0.30f,0.15f,0.15f,1f);
-        btnOver = solid(0.38f,0.18f,0.18f,1f);
-        btnDown = solid(0.22f,0.10f,0.10f,1f);
+    public GameOverMenu(BitmapFont font, Assets.Scope assets, final Listener listener) {
+        Texture dimTex = assets.solid(0f,0f,0f,1f);
+        Texture panelTex = assets.solid(0.12f,0.10f,0.10f,1f);
+        Texture btnUp   = assets.solid(0.30f,0.15f,0.15f,1f);
+        Texture btnOver = assets.solid(0.38f,0.18f,0.18f,1f);
+        Texture btnDown = assets.solid(0.22f,0.10f,0.10f,1f);
 
         TextureRegionDrawable dim = new TextureRegionDrawable(new TextureRegion(dimTex));
         TextureRegionDrawable panelBg = new TextureRegionDrawable(new TextureRegion(panelTex));
@@ -78,12 +78,6 @@ public class GameOverMenu extends Group {
         setVisible(false);
     }
 
-    private Texture solid(float r,float g,float b,float a){
-        Pixmap pm = new Pixmap(1,1, Pixmap.Format.RGBA8888);
-        pm.setColor(r,g,b,a); pm.fill();
-        Texture t = new Texture(pm); pm.dispose(); return t;
-    }
-
     /** For updating score text before showing. */
     public void setScores(int kills, int highscore) {
         scoreLabel.setText("Kills: " + kills + "   •   High Score: " + highscore);
@@ -102,8 +96,4 @@ public class GameOverMenu extends Group {
 
     public void show(){ setVisible(true); }
     public void hide(){ setVisible(false); }
-
-    public void dispose() {
-        dimTex.dispose(); panelTex.dispose(); btnUp.dispose(); btnOver.dispose(); btnDown.dispose();
-    }
 }
@@ -0,0 +1,104 @@
+package com.rgs.swordsurvivor.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * A piece of HUD text with its own cached {@link GlyphLayout}.
+ *
+ * Each frame the caller rebuilds the text into the reused builder from {@link #begin()}
+ * (StringBuilder.append(int) writes the digits in place: no boxing, no garbage); {@link #draw}
+ * lays it out again only if the characters, font scale, color or wrap width changed since the
+ * last layout. A stats line that ticks once a second, or a boon description that changes once per
+ * level-up, is laid out that often and otherwise just drawn.
+ */
+public class HudText {
+    private final StringBuilder next = new StringBuilder(64);
+    private final StringBuilder laidOut = new StringBuilder(64);
+    private final GlyphLayout layout = new GlyphLayout();
+    private final Color color = new Color(Color.WHITE);
+    private float scale = 1f;
+    private float wrapWidth = 0f;      // 0 = one line
+    private BitmapFont font;
+    private boolean dirty = true;
+
+    public HudText() {}
+
+    /** Fixed text: laid out on the first draw and never again. */
+    public HudText(CharSequence text) {
+        begin().append(text);
+    }
+
+    /** @return the builder to append this frame's text to (cleared) */
+    public StringBuilder begin() {
+        next.setLength(0);
+        return next;
+    }
+
+    public HudText setColor(Color c) {
+        if (!color.equals(c)) {
+            color.set(c);
+            dirty = true;
+        }
+        return this;
+    }
+
+    public HudText setScale(float scale) {
+        if (this.scale != scale) {
+            this.scale = scale;
+            dirty = true;
+        }
+        return this;
+    }
+
+    /** Wrap at this width (world units), or 0 for a single line. */
+    public HudText setWrapWidth(float wrapWidth) {
+        if (this.wrapWidth != wrapWidth) {
+            this.wrapWidth = wrapWidth;
+            dirty = true;
+        }
+        return this;
+    }
+
+    /** Laid-out width with the current text (lays out if needed). */
+    public float getWidth(BitmapFont font) {
+        update(font);
+        return layout.width;
+    }
+
+    /** Draw with the top-left of the first line at (x, y); the font's scale is left as it was. */
+    public void draw(Batch batch, BitmapFont font, float x, float y) {
+        update(font);
+        BitmapFont.BitmapFontData data = font.getData();
+        float oldX = data.scaleX, oldY = data.scaleY;
+        if (oldX != scale || oldY != scale) data.setScale(scale); // glyph quads are sized at draw time
+        font.draw(batch, layout, x, y);
+        if (oldX != scale || oldY != scale) data.setScale(oldX, oldY);
+    }
+
+    private void update(BitmapFont font) {
+        if (!dirty && font == this.font && sameText()) return;
+        laidOut.setLength(0);
+        laidOut.append(next);
+        this.font = font;
+        dirty = false;
+
+        BitmapFont.BitmapFontData data = font.getData();
+        float oldX = data.scaleX, oldY = data.scaleY;
+        data.setScale(scale);
+        layout.setText(font, laidOut, color, wrapWidth, Align.left, wrapWidth > 0f);
+        data.setScale(oldX, oldY);
+    }
+
+    private boolean sameText() {
+        int n = next.length();
+        if (n != laidOut.length()) return false;
+        for (int i = 0; i < n; i++) {
+            if (next.charAt(i) != laidOut.charAt(i)) return false;
+        }
+        return true;
+    }
+}
@@ -1,7 +1,6 @@
 package com.rgs.swordsurvivor.ui;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Group;
@@ -19,6 +18,8 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 
+import com.rgs.swordsurvivor.assets.Assets;
+
 public class PauseMenu extends Group {
 
     public interface Listener {
@@ -27,16 +28,15 @@ public class PauseMenu extends Group {
         void onMainMenu();
     }
 
-    private final Texture dimTex, panelTex, btnUp, btnOver, btnDown;
     private final Table panel;
 
-    public PauseMenu(BitmapFont font, final Listener listener) {
+    public PauseMenu(BitmapFont font, Assets.Scope assets, final Listener listener) {
         // solids
-        dimTex = solid(0f,0f,0f,1f);
-        panelTex = solid(0.12f,0.14f,0.18f,1f);
-        btnUp   = solid(0.18f,0.22f,0.28f,1f);
-        btnOver = solid(0.24f,0.30f,0.38f,1f);
-        btnDown = solid(0.14f,0.16f,0.20f,1f);
+        Texture dimTex = assets.solid(0f,0f,0f,1f);
+        Texture panelTex = assets.solid(0.12f,0.14f,0.18f,1f);
+        Texture btnUp   = assets.solid(0.18f,0.22f,0.28f,1f);
+        Texture btnOver = assets.solid(0.24f,0.30f,0.38f,1f);
+        Texture btnDown = assets.solid(0.14f,0.16f,0.20f,1f);
 
         TextureRegionDrawable dim = new TextureRegionDrawable(new TextureRegion(dimTex));
         TextureRegionDrawable panelBg = new TextureRegionDrawable(new TextureRegion(panelTex));
@@ -80,12 +80,6 @@ public class PauseMenu extends Group {
         setVisible(false);
     }
 
-    private Texture solid(float r,float g,float b,float a){
-        Pixmap pm = new Pixmap(1,1, Pixmap.Format.RGBA8888);
-        pm.setColor(r,g,b,a); pm.fill();
-        Texture t = new Texture(pm); pm.dispose(); return t;
-    }
-
     /** Size to current view and center panel. Call once per frame before drawing. */
     public PauseMenu centerOnCamera(Viewport viewport, Camera camera) {
         float vw = viewport.getWorldWidth(), vh = viewport.getWorldHeight();
@@ -99,8 +93,4 @@ public class PauseMenu extends Group {
 
     public void show(){ setVisible(true); }
     public void hide(){ setVisible(false); }
-
-    public void dispose() {
-        dimTex.dispose(); panelTex.dispose(); btnUp.dispose(); btnOver.dispose(); btnDown.dispose();
-    }
 }
@@ -0,0 +1,178 @@
+package com.rgs.swordsurvivor.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+import com.rgs.swordsurvivor.Platform;
+import com.rgs.swordsurvivor.sim.Simulation;
+import com.rgs.swordsurvivor.util.FrameTimeWindow;
+import com.rgs.swordsurvivor.util.PhaseTimer;
+
+/**
+ * Debug HUD (F3): FPS, a rolling frame-time graph with p50/p95/p99, where the frame went (sim
+ * phases plus the screen's draw phases), entity counts, pools, draw calls, heap and GC.
+ *
+ * Timing is only switched on while the overlay is visible. Text is rebuilt into one reused
+ * StringBuilder with hand-rolled number formatting, so showing it allocates nothing either.
+ */
+public class PerfOverlay {
+    public static final int FRAME_WINDOW = 240;
+    static final float GRAPH_WIDTH = 240f, GRAPH_HEIGHT = 60f;
+    static final float GRAPH_MAX_MS = 50f;          // full graph height
+    static final float BUDGET_MS = 1000f / 60f;
+
+    private final Simulation sim;
+    private final PhaseTimer screen;                // the screen's own phases
+    private final Platform.GcStats gc;              // may be null
+    private final FrameTimeWindow frames = new FrameTimeWindow(FRAME_WINDOW);
+    private final StringBuilder text = new StringBuilder(512);
+    private boolean visible = false;
+
+    // Per-frame figures, sampled in endFrame()
+    private int lastTotalRenderCalls = -1, renderCalls = 0;
+    private int steps = 0, droppedSteps = 0, actors = 0;
+    private long lastHeap = -1;
+    private float allocKbPerSec = 0f;
+
+    public PerfOverlay(Simulation sim, PhaseTimer screen, Platform.GcStats gc) {
+        this.sim = sim;
+        this.screen = screen;
+        this.gc = gc;
+    }
+
+    public boolean isVisible() { return visible; }
+
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+        screen.setEnabled(visible);
+        sim.getTimings().setEnabled(visible);
+        frames.clear();
+        lastTotalRenderCalls = -1;
+        lastHeap = -1;
+    }
+
+    /**
+     * Close the frame, after everything was drawn.
+     * @param steps sim steps run this frame
+     * @param droppedSteps the timestep's running total of dropped steps
+     * @param actors actors on the screen's stages
+     */
+    public void endFrame(float delta, SpriteBatch batch, int steps, int droppedSteps, int actors) {
+        if (!visible) return;
+        frames.add(delta * 1000f);
+        screen.endFrame();
+        sim.getTimings().endFrame();
+
+        if (lastTotalRenderCalls >= 0) renderCalls = batch.totalRenderCalls - lastTotalRenderCalls;
+        lastTotalRenderCalls = batch.totalRenderCalls;
+        this.steps = steps;
+        this.droppedSteps = droppedSteps;
+        this.actors = actors;
+
+        // Heap growth between frames is allocation (a drop means a collection ran)
+        long heap = Gdx.app.getJavaHeap();
+        if (lastHeap >= 0 && heap >= lastHeap && delta > 0f) {
+            float rate = (heap - lastHeap) / 1024f / delta;
+            allocKbPerSec += (rate - allocKbPerSec) * 0.05f;
+        }
+        lastHeap = heap;
+    }
+
+    /** Draw with top-left at (left, top) in the current projection (world units = pixels here). */
+    public void draw(ShapeRenderer shapes, SpriteBatch batch, BitmapFont font, float left, float top) {
+        if (!visible) return;
+        float textHeight = 7 * font.getLineHeight();
+        float graphTop = top - textHeight - 8f;
+        drawGraph(shapes, left, graphTop - GRAPH_HEIGHT);
+
+        buildText();
+        batch.begin();
+        font.setColor(0.85f, 1f, 0.85f, 1f);
+        font.draw(batch, text, left, top);
+        font.setColor(1f, 1f, 1f, 1f);
+        batch.end();
+    }
+
+    private void drawGraph(ShapeRenderer shapes, float x, float y) {
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0f, 0f, 0f, 0.55f);
+        shapes.rect(x - 2f, y - 2f, GRAPH_WIDTH + 4f, GRAPH_HEIGHT + 4f);
+
+        float barW = GRAPH_WIDTH / frames.capacity();
+        for (int i = 0, n = frames.size(); i < n; i++) {
+            float ms = frames.get(i);
+            if (ms > 2f * BUDGET_MS) shapes.setColor(1f, 0.3f, 0.3f, 1f);
+            else if (ms > BUDGET_MS + 1f) shapes.setColor(1f, 0.8f, 0.2f, 1f);
+            else shapes.setColor(0.3f, 0.9f, 0.4f, 1f);
+            shapes.rect(x + i * barW, y, barW, Math.min(ms, GRAPH_MAX_MS) / GRAPH_MAX_MS * GRAPH_HEIGHT);
+        }
+
+        // 60 and 30 fps lines
+        shapes.setColor(1f, 1f, 1f, 0.5f);
+        shapes.rect(x, y + BUDGET_MS / GRAPH_MAX_MS * GRAPH_HEIGHT, GRAPH_WIDTH, 1f);
+        shapes.rect(x, y + 2f * BUDGET_MS / GRAPH_MAX_MS * GRAPH_HEIGHT, GRAPH_WIDTH, 1f);
+        shapes.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    private void buildText() {
+        StringBuilder t = text;
+        t.setLength(0);
+
+        t.append("FPS ").append(Gdx.graphics.getFramesPerSecond());
+        fixed(t.append("  frame p50 "), frames.percentile(0.50f), 2);
+        fixed(t.append("  p95 "), frames.percentile(0.95f), 2);
+        fixed(t.append("  p99 "), frames.percentile(0.99f), 2);
+        fixed(t.append("  max "), frames.max(), 1).append(" ms\n");
+
+        PhaseTimer simT = sim.getTimings();
+        fixed(t.append("cpu "), screen.totalMs(), 2).append(" ms:");
+        phases(t, screen);
+        t.append('\n');
+        fixed(t.append("sim "), simT.totalMs(), 2).append(" ms:");
+        phases(t, simT);
+        t.append('\n');
+
+        t.append("steps ").append(steps).append("/frame  dropped ").append(droppedSteps)
+            .append("  enemies ").append(sim.enemies.size)
+            .append("  orbs ").append(sim.orbs.size)
+            .append("  actors ").append(actors)
+            .append("  pairs ").append(sim.getSeparation().getLastPairs()).append('\n');
+
+        sim.getPools().describe(t.append("pools ")).append('\n');
+
+        t.append("sprite draw calls ").append(renderCalls).append("/frame\n");
+
+        fixed(t.append("heap "), Gdx.app.getJavaHeap() / (1024f * 1024f), 1).append(" MB  alloc ");
+        fixed(t, allocKbPerSec, 0).append(" KB/s");
+        if (gc != null) t.append("  gc ").append(gc.collections()).append(" (").append(gc.collectionMillis()).append(" ms)");
+    }
+
+    private static void phases(StringBuilder t, PhaseTimer timer) {
+        for (int i = 0; i < timer.size(); i++) {
+            fixed(t.append("  ").append(timer.name(i)).append(' '), timer.avgMs(i), 2);
+        }
+    }
+
+    /** Append v with the given decimals (0..2) without going through Float.toString. */
+    static StringBuilder fixed(StringBuilder t, float v, int decimals) {
+        if (v < 0f) {
+            t.append('-');
+            v = -v;
+        }
+        int scale = decimals >= 2 ? 100 : decimals == 1 ? 10 : 1;
+        long n = Math.round(v * scale);
+        t.append(n / scale);
+        if (decimals > 0) {
+            long frac = n % scale;
+            t.append('.');
+            if (scale == 100 && frac < 10) t.append('0');
+            t.append(frac);
+        }
+        return t;
+    }
+}
@@ -11,6 +11,8 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 
+import com.rgs.swordsurvivor.assets.Assets;
+
 /**
  * A simple on-demand virtual joystick:
  * - Appears where activated (touchDown)
@@ -29,18 +31,16 @@ public class VirtualJoystick extends Actor {
     private final Vector2 knob = new Vector2();
     private final Vector2 value = new Vector2(); // normalized
 
-    private final Texture baseTex;
-    private final Texture knobTex;
     private final TextureRegionDrawable baseDrawable;
     private final TextureRegionDrawable knobDrawable;
 
-    public VirtualJoystick(float baseRadius, float knobRadius, float deadzone) {
+    public VirtualJoystick(Assets.Scope assets, float baseRadius, float knobRadius, float deadzone) {
         this.baseRadius = baseRadius;
         this.knobRadius = knobRadius;
         this.deadzone = deadzone;
 
-        baseTex = makeCircle(Math.round(baseRadius * 2f), new Color(1f, 1f, 1f, 0.12f));
-        knobTex = makeCircle(Math.round(knobRadius * 2f), new Color(1f, 1f, 1f, 0.35f));
+        Texture baseTex = circle(assets, Math.round(baseRadius * 2f), new Color(1f, 1f, 1f, 0.12f));
+        Texture knobTex = circle(assets, Math.round(knobRadius * 2f), new Color(1f, 1f, 1f, 0.35f));
         baseDrawable = new TextureRegionDrawable(new TextureRegion(baseTex));
         knobDrawable = new TextureRegionDrawable(new TextureRegion(knobTex));
 
@@ -48,7 +48,14 @@ public class VirtualJoystick extends Actor {
         setTouchable(Touchable.disabled); // draws only; input is handled by GameScreen listener
     }
 
-    private Texture makeCircle(int size, Color color) {
+    /** Both sticks share their circles through the asset cache. */
+    private static Texture circle(Assets.Scope assets, final int size, final Color color) {
+        return assets.acquire("joystick:" + size + ":" + color, new Assets.Loader<Texture>() {
+            @Override public Texture load() { return makeCircle(size, color); }
+        });
+    }
+
+    private static Texture makeCircle(int size, Color color) {
         Pixmap pm = new Pixmap(size, size, Pixmap.Format.RGBA8888);
         pm.setBlending(Pixmap.Blending.SourceOver);
         pm.setColor(0,0,0,0); pm.fill();
@@ -128,9 +135,4 @@ public class VirtualJoystick extends Actor {
         // draw knob
         knobDrawable.draw(batch, kx, ky, knobRadius * 2f, knobRadius * 2f);
     }
-
-    public void dispose() {
-        baseTex.dispose();
-        knobTex.dispose();
-    }
 }
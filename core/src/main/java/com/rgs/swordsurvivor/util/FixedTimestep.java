@@ -0,0 +1,53 @@
+package com.rgs.swordsurvivor.util;
+
+/**
+ * Fixed-step accumulator: turns variable frame deltas into a whole number of equal simulation
+ * steps, plus an interpolation factor for rendering between the last two steps.
+ *
+ * Frames that would need more than maxSubsteps steps drop the backlog instead of trying to catch
+ * up (the "spiral of death"), so one long hitch slows the game down briefly rather than freezing it.
+ */
+public class FixedTimestep {
+    private float step;
+    private final int maxSubsteps;
+    private float accumulator = 0f;
+    private int droppedSteps = 0;
+
+    public FixedTimestep(float hz, int maxSubsteps) {
+        setRate(hz);
+        this.maxSubsteps = Math.max(1, maxSubsteps);
+    }
+
+    /** Change the simulation rate (steps per second). */
+    public void setRate(float hz) {
+        this.step = 1f / Math.max(1f, hz);
+    }
+
+    public float getStep() { return step; }
+
+    /** Add a frame's real time. @return how many steps of {@link #getStep()} to simulate now */
+    public int advance(float delta) {
+        accumulator += Math.max(0f, delta);
+        int steps = (int)(accumulator / step);
+        if (steps > maxSubsteps) {
+            droppedSteps += steps - maxSubsteps;
+            steps = maxSubsteps;
+            accumulator = 0f;
+        } else {
+            accumulator -= steps * step;
+        }
+        return steps;
+    }
+
+    /** How far (0..1) real time is past the last simulated step; lerp prev -> current by this. */
+    public float getAlpha() {
+        return Math.min(1f, accumulator / step);
+    }
+
+    /** Steps thrown away by the substep cap since startup. */
+    public int getDroppedSteps() { return droppedSteps; }
+
+    public void reset() {
+        accumulator = 0f;
+    }
+}
@@ -0,0 +1,73 @@
+package com.rgs.swordsurvivor.util;
+
+/**
+ * The last N frame times, with a histogram kept in step so percentiles cost a scan of the bins
+ * rather than a sort. Bins are {@link #BIN_MS} wide up to {@link #MAX_MS}; slower frames land in
+ * the last bin. Nothing here allocates after construction.
+ */
+public class FrameTimeWindow {
+    public static final float BIN_MS = 0.25f;
+    public static final float MAX_MS = 100f;
+    private static final int BINS = (int)(MAX_MS / BIN_MS) + 1;
+
+    private final float[] samples;
+    private final int[] bins = new int[BINS];
+    private int next = 0;
+    private int count = 0;
+
+    public FrameTimeWindow(int capacity) {
+        samples = new float[Math.max(1, capacity)];
+    }
+
+    public void add(float ms) {
+        if (count == samples.length) bins[bin(samples[next])]--;
+        else count++;
+        samples[next] = ms;
+        bins[bin(ms)]++;
+        next = (next + 1) % samples.length;
+    }
+
+    public int size() { return count; }
+    public int capacity() { return samples.length; }
+
+    /** i-th sample, oldest first. */
+    public float get(int i) {
+        int start = count == samples.length ? next : 0;
+        return samples[(start + i) % samples.length];
+    }
+
+    /**
+     * Frame time that p (0..1) of the window is at or under, to the bin (upper edge, capped at
+     * the slowest sample).
+     * @return 0 when empty
+     */
+    public float percentile(float p) {
+        if (count == 0) return 0f;
+        int rank = (int)Math.ceil(p * count);
+        if (rank < 1) rank = 1;
+        int seen = 0;
+        for (int b = 0; b < BINS; b++) {
+            seen += bins[b];
+            if (seen >= rank) return Math.min((b + 1) * BIN_MS, max());
+        }
+        return max();
+    }
+
+    public float max() {
+        float m = 0f;
+        for (int i = 0; i < count; i++) m = Math.max(m, samples[i]);
+        return m;
+    }
+
+    public void clear() {
+        for (int b = 0; b < BINS; b++) bins[b] = 0;
+        next = 0;
+        count = 0;
+    }
+
+    private static int bin(float ms) {
+        int b = (int)(ms / BIN_MS);
+        if (b < 0) return 0;
+        return b >= BINS ? BINS - 1 : b;
+    }
+}
@@ -0,0 +1,73 @@
+package com.rgs.swordsurvivor.util;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Splits a stretch of code into named phases and keeps a smoothed per-frame time for each.
+ *
+ * {@link #start()} at the top, {@link #mark(int)} after each phase (the time since the previous
+ * start/mark is charged to it), {@link #endFrame()} once per rendered frame; phases hit several
+ * times in a frame (several sim steps) add up. Disabled, every call is a single branch.
+ * Nothing here allocates.
+ */
+public class PhaseTimer {
+    /** Weight of the newest frame in the running average. */
+    static final float SMOOTHING = 0.1f;
+
+    private final String[] names;
+    private final long[] frameNanos;
+    private final float[] avgMs;
+    private long last;
+    private boolean enabled = false;
+
+    public PhaseTimer(String... names) {
+        this.names = names;
+        this.frameNanos = new long[names.length];
+        this.avgMs = new float[names.length];
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        for (int i = 0; i < names.length; i++) {
+            frameNanos[i] = 0;
+            avgMs[i] = 0f;
+        }
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /** Begin timing; the next {@link #mark} measures from here. */
+    public void start() {
+        if (enabled) last = TimeUtils.nanoTime();
+    }
+
+    /** Charge the time since the previous start/mark to this phase. */
+    public void mark(int phase) {
+        if (!enabled) return;
+        long now = TimeUtils.nanoTime();
+        frameNanos[phase] += now - last;
+        last = now;
+    }
+
+    /** Fold this frame's totals into the averages and clear them. */
+    public void endFrame() {
+        if (!enabled) return;
+        for (int i = 0; i < names.length; i++) {
+            avgMs[i] += (frameNanos[i] * 1e-6f - avgMs[i]) * SMOOTHING;
+            frameNanos[i] = 0;
+        }
+    }
+
+    public int size() { return names.length; }
+    public String name(int phase) { return names[phase]; }
+
+    /** Smoothed milliseconds per frame spent in the phase. */
+    public float avgMs(int phase) { return avgMs[phase]; }
+
+    /** Sum of all phases' averages. */
+    public float totalMs() {
+        float t = 0f;
+        for (int i = 0; i < names.length; i++) t += avgMs[i];
+        return t;
+    }
+}
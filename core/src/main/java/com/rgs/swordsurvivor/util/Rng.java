@@ -0,0 +1,71 @@
+package com.rgs.swordsurvivor.util;
+
+/**
+ * Small seedable generator (xoroshiro128+) for gameplay rolls.
+ *
+ * Not synchronized and not shared: each subsystem owns one, seeded from the run seed plus its own
+ * stream id, so adding a roll to one subsystem doesn't shift the sequence any other one sees.
+ * Same seed and stream, same calls: same numbers, on every platform (pure long arithmetic, which
+ * GWT emulates exactly).
+ */
+public final class Rng {
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private long s0, s1;
+
+    public Rng(long seed) {
+        setSeed(seed, 0);
+    }
+
+    public Rng(long seed, long stream) {
+        setSeed(seed, stream);
+    }
+
+    /** Restart the sequence for (seed, stream); different streams of one seed are independent. */
+    public void setSeed(long seed, long stream) {
+        long z = seed + stream * GOLDEN;
+        s0 = mix(z += GOLDEN);
+        s1 = mix(z + GOLDEN);
+        if ((s0 | s1) == 0L) s0 = GOLDEN; // the all-zero state is a fixed point
+    }
+
+    public long nextLong() {
+        long a = s0, b = s1;
+        long result = a + b;
+        b ^= a;
+        s0 = rotl(a, 24) ^ b ^ (b << 16);
+        s1 = rotl(b, 37);
+        return result;
+    }
+
+    /** Uniform in [0, n); n must be positive. */
+    public int nextInt(int n) {
+        return (int)(((nextLong() >>> 32) * n) >>> 32);
+    }
+
+    /** Uniform in [0, 1). */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    /** Uniform in [min, max). */
+    public float range(float min, float max) {
+        return min + nextFloat() * (max - min);
+    }
+
+    /** Seed for a new run when none was asked for. */
+    public static long randomSeed() {
+        return mix(System.nanoTime() ^ System.currentTimeMillis() * GOLDEN);
+    }
+
+    private static long rotl(long x, int k) {
+        return (x << k) | (x >>> (64 - k));
+    }
+
+    /** SplitMix64 finalizer: spreads nearby seeds over the whole state space. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
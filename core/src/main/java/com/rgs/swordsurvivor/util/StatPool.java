@@ -0,0 +1,50 @@
+package com.rgs.swordsurvivor.util;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * {@link Pool} that counts how many objects it ever had to construct.
+ * Once a run warms up, {@link #getCreated()} should stop moving: that is our "zero steady-state
+ * allocation" check for pooled entities.
+ */
+public abstract class StatPool<T> extends Pool<T> {
+    private final String name;
+    private int created = 0;
+    private int obtained = 0;
+
+    public StatPool(String name, int initialCapacity) {
+        super(initialCapacity);
+        this.name = name;
+    }
+
+    /** Construct a brand new instance (only called when the free list is empty). */
+    protected abstract T create();
+
+    @Override
+    protected final T newObject() {
+        created++;
+        return create();
+    }
+
+    @Override
+    public T obtain() {
+        obtained++;
+        return super.obtain();
+    }
+
+    public String getName() { return name; }
+
+    /** Total instances constructed since startup (including {@link #fill} prewarming). */
+    public int getCreated() { return created; }
+
+    /** Total obtain() calls since startup; compare with {@link #getCreated()} for the reuse ratio. */
+    public int getObtained() { return obtained; }
+
+    /** Instances currently handed out (created minus the ones sitting in the free list). */
+    public int getLive() { return created - getFree(); }
+
+    @Override
+    public String toString() {
+        return name + " live=" + getLive() + " free=" + getFree() + " peak=" + peak + " created=" + created;
+    }
+}
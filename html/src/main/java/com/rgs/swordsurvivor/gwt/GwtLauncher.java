@@ -3,6 +3,7 @@ package com.rgs.swordsurvivor.gwt;
 import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.backends.gwt.GwtApplication;
 import com.badlogic.gdx.backends.gwt.GwtApplicationConfiguration;
+import com.rgs.swordsurvivor.Platform;
 import com.rgs.swordsurvivor.SwordSurvivorGame;
 
 /** Launches the GWT application. */
@@ -21,6 +22,7 @@ public class GwtLauncher extends GwtApplication {
 
         @Override
         public ApplicationListener createApplicationListener () {
-            return new SwordSurvivorGame();
+            // No threads in the browser
+            return new SwordSurvivorGame(Platform.SINGLE_THREADED);
         }
 }
@@ -0,0 +1,186 @@
+package com.rgs.swordsurvivor.lwjgl3;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import com.rgs.swordsurvivor.assets.DecodedImage;
+
+/**
+ * The assets/ folder as one memory-mapped file (assets.pak, written by {@link AssetPackWriter}).
+ *
+ * Layout, big-endian:
+ * <pre>
+ *   int magic ("SSAP"), int version, int entry count
+ *   per entry: short name length, UTF-8 name (relative to assets/), byte kind,
+ *              int offset, int length, int width, int height
+ *   blobs, each starting on a {@link #ALIGN}-byte boundary
+ * </pre>
+ * A {@link #FILE} blob is the file as it is (atlas text, MP3s). An {@link #RGBA} blob is a PNG
+ * decoded at build time to RGBA8888 texels, top row first, stored under the PNG's name: textures
+ * upload it straight from the mapping ({@link DecodedImage}), with no read into the heap and no
+ * PNG decode.
+ *
+ * Nothing is read up front but the index; the OS pages blobs in as they are touched and keeps
+ * them in its file cache between runs. Handles read their blob through a view of the mapping, so
+ * a file costs no allocation beyond the stream object. Paths not in the pack fall back to internal
+ * files. Thread-safe: the loader thread and the render thread both resolve through it.
+ */
+public class AssetPack implements FileHandleResolver {
+    static final int MAGIC = 0x53534150; // "SSAP"
+    static final int VERSION = 1;
+    static final int ALIGN = 4096;       // a page: blobs map and upload from page-aligned memory
+    static final byte FILE = 0, RGBA = 1;
+
+    private static final class Entry {
+        String name;
+        byte kind;
+        int offset, length, width, height;
+    }
+
+    private final ByteBuffer data;
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+    private final Dir root = new Dir("");
+
+    /** Map {@code file} read-only; the mapping outlives the channel, closed here. */
+    public static AssetPack open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new AssetPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    AssetPack(ByteBuffer data) {
+        this.data = data;
+        ByteBuffer index = data.duplicate();
+        if (index.getInt() != MAGIC) throw new GdxRuntimeException("Not an asset pack");
+        int version = index.getInt();
+        if (version != VERSION) throw new GdxRuntimeException("Asset pack version " + version + ", expected " + VERSION);
+        int count = index.getInt();
+        byte[] name = new byte[256];
+        for (int i = 0; i < count; i++) {
+            Entry e = new Entry();
+            int n = index.getShort() & 0xffff;
+            if (n > name.length) name = new byte[n];
+            index.get(name, 0, n);
+            e.name = new String(name, 0, n, StandardCharsets.UTF_8);
+            e.kind = index.get();
+            e.offset = index.getInt();
+            e.length = index.getInt();
+            e.width = index.getInt();
+            e.height = index.getInt();
+            entries.put(e.name, e);
+        }
+    }
+
+    /** Entries in the pack. */
+    public int size() { return entries.size; }
+
+    @Override
+    public FileHandle resolve(String fileName) {
+        String path = fileName.replace('\\', '/');
+        while (path.startsWith("./")) path = path.substring(2);
+        Entry e = entries.get(path);
+        if (e == null) return path.isEmpty() ? root : Gdx.files.internal(fileName);
+        return e.kind == RGBA ? new Image(e) : new Blob(e);
+    }
+
+    /** A view of one blob: position 0, limit its length. */
+    private ByteBuffer slice(Entry e) {
+        ByteBuffer b = data.duplicate();
+        b.position(e.offset);
+        b.limit(e.offset + e.length);
+        return b.slice();
+    }
+
+    private String parentOf(String path) {
+        int slash = path.lastIndexOf('/');
+        return slash < 0 ? "" : path.substring(0, slash);
+    }
+
+    /** A file in the pack. Internal-typed, so anything asking the type treats it as a bundled asset. */
+    private class Blob extends FileHandle {
+        final Entry entry;
+
+        Blob(Entry entry) {
+            super(entry.name, Files.FileType.Internal);
+            this.entry = entry;
+        }
+
+        @Override public InputStream read() { return new BufferInputStream(slice(entry)); }
+        @Override public long length() { return entry.length; }
+        @Override public boolean exists() { return true; }
+        @Override public boolean isDirectory() { return false; }
+        @Override public FileHandle parent() { return new Dir(parentOf(entry.name)); }
+        @Override public FileHandle sibling(String name) { return parent().child(name); }
+        @Override public FileHandle child(String name) { throw new GdxRuntimeException("Not a directory: " + entry.name); }
+    }
+
+    /** A decoded image: {@link #read()} gives its texels, not a PNG. */
+    private class Image extends Blob implements DecodedImage {
+        Image(Entry entry) {
+            super(entry);
+        }
+
+        @Override public int getWidth() { return entry.width; }
+        @Override public int getHeight() { return entry.height; }
+        @Override public ByteBuffer pixels() { return slice(entry); }
+    }
+
+    /** A folder of pack entries, so atlases find their pages next to them. */
+    private class Dir extends FileHandle {
+        private final String path;
+
+        Dir(String path) {
+            super(path, Files.FileType.Internal);
+            this.path = path;
+        }
+
+        @Override public FileHandle child(String name) { return resolve(path.isEmpty() ? name : path + "/" + name); }
+        @Override public FileHandle parent() { return new Dir(parentOf(path)); }
+        @Override public FileHandle sibling(String name) { return parent().child(name); }
+        @Override public boolean exists() { return true; }
+        @Override public boolean isDirectory() { return true; }
+    }
+
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int k = (int)Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + k);
+            return k;
+        }
+
+        @Override public int available() { return buffer.remaining(); }
+    }
+}
@@ -0,0 +1,107 @@
+package com.rgs.swordsurvivor.lwjgl3;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+/**
+ * Writes the assets/ folder as an {@link AssetPack}, with every PNG decoded to RGBA8888.
+ * Run at build time (lwjgl3:packAssets): {@code AssetPackWriter <assets dir> <out file>}.
+ */
+public class AssetPackWriter {
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: AssetPackWriter <assets dir> <out file>");
+            System.exit(1);
+        }
+        GdxNativesLoader.load(); // Pixmap decodes natively
+        File dir = new File(args[0]), out = new File(args[1]);
+        List<String> names = new ArrayList<>();
+        list(dir, "", names);
+        Collections.sort(names); // same input, same bytes
+
+        // Blobs first (decoded PNGs are only known once decoded), into memory; the pack is a few MB
+        List<ByteBuffer> blobs = new ArrayList<>();
+        byte[] kinds = new byte[names.size()];
+        int[] widths = new int[names.size()], heights = new int[names.size()];
+        int headerSize = 12;
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            File file = new File(dir, name);
+            headerSize += 2 + name.getBytes(StandardCharsets.UTF_8).length + 1 + 16;
+            if (name.endsWith(".png")) {
+                Pixmap pixmap = rgba(new Pixmap(new FileHandle(file)));
+                ByteBuffer pixels = pixmap.getPixels();
+                ByteBuffer copy = ByteBuffer.allocate(pixels.remaining());
+                copy.put(pixels);
+                copy.flip();
+                blobs.add(copy);
+                kinds[i] = AssetPack.RGBA;
+                widths[i] = pixmap.getWidth();
+                heights[i] = pixmap.getHeight();
+                pixmap.dispose();
+            } else {
+                blobs.add(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+                kinds[i] = AssetPack.FILE;
+            }
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(headerSize);
+        header.putInt(AssetPack.MAGIC).putInt(AssetPack.VERSION).putInt(names.size());
+        int[] offsets = new int[names.size()];
+        long offset = align(headerSize);
+        for (int i = 0; i < names.size(); i++) {
+            if (offset + blobs.get(i).remaining() > Integer.MAX_VALUE) throw new IOException("Assets over 2 GB");
+            offsets[i] = (int)offset;
+            offset = align(offset + blobs.get(i).remaining());
+            byte[] name = names.get(i).getBytes(StandardCharsets.UTF_8);
+            header.putShort((short)name.length).put(name).put(kinds[i])
+                .putInt(offsets[i]).putInt(blobs.get(i).remaining()).putInt(widths[i]).putInt(heights[i]);
+        }
+        header.flip();
+
+        File parent = out.getAbsoluteFile().getParentFile();
+        if (parent != null) parent.mkdirs();
+        try (FileChannel channel = FileChannel.open(out.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(header, 0);
+            for (int i = 0; i < names.size(); i++) channel.write(blobs.get(i), offsets[i]);
+        }
+        System.out.println("Packed " + names.size() + " files into " + out + " (" + out.length() / 1024 + " KB)");
+    }
+
+    private static void list(File dir, String prefix, List<String> names) {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        for (File f : files) {
+            if (f.getName().startsWith(".")) continue;
+            if (f.isDirectory()) list(f, prefix + f.getName() + "/", names);
+            else names.add(prefix + f.getName());
+        }
+    }
+
+    /** The pixmap as RGBA8888 (PNGs without alpha decode to RGB888); disposes the original if converted. */
+    private static Pixmap rgba(Pixmap pixmap) {
+        if (pixmap.getFormat() == Pixmap.Format.RGBA8888) return pixmap;
+        Pixmap converted = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), Pixmap.Format.RGBA8888);
+        converted.setBlending(Pixmap.Blending.None);
+        converted.drawPixmap(pixmap, 0, 0);
+        pixmap.dispose();
+        return converted;
+    }
+
+    private static long align(long offset) {
+        return (offset + AssetPack.ALIGN - 1) / AssetPack.ALIGN * AssetPack.ALIGN;
+    }
+}
@@ -1,10 +1,21 @@
 package com.rgs.swordsurvivor.lwjgl3;
 
+import java.io.File;
+import java.io.IOException;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.rgs.swordsurvivor.Platform;
 import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.jobs.ForkJoinJobSystem;
 
-/** Launches the desktop (LWJGL3) application. */
+/**
+ * Launches the desktop (LWJGL3) application.
+ * {@code --replay <file.ssr> [--speed N]} opens a recorded run instead of the menu;
+ * {@code --metrics <file.jsonl>} exports soak metrics once a second while playing;
+ * {@code --bot} lets the built-in bot play.
+ */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
@@ -12,11 +23,76 @@ public class Lwjgl3Launcher {
         config.setWindowedMode(800, 600);
         config.useVsync(true);
         config.setForegroundFPS(60);
-        new Lwjgl3Application(new SwordSurvivorGame(), config);
+        SwordSurvivorGame game = new SwordSurvivorGame(desktopPlatform());
+        applyArgs(game, args);
+        new Lwjgl3Application(game, config);
+    }
+
+    private static void applyArgs(SwordSurvivorGame game, String[] args) {
+        String replay = null;
+        int speed = 1;
+        for (int i = 0; i < args.length; i++) {
+            String a = args[i];
+            if ("--bot".equals(a)) game.setBotPlaying(true);
+            else if (i + 1 == args.length) usage("missing value for " + a);
+            else if ("--replay".equals(a)) replay = args[++i];
+            else if ("--speed".equals(a)) speed = parseSpeed(args[++i]);
+            else if ("--metrics".equals(a)) game.setMetricsFile(new File(args[++i]).getAbsolutePath());
+            else usage("unknown option " + a);
+        }
+        if (replay != null) game.setStartupReplay(new File(replay).getAbsolutePath(), speed);
+    }
+
+    private static int parseSpeed(String value) {
+        try {
+            int speed = Integer.parseInt(value);
+            if (speed >= 1) return speed;
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        usage("--speed takes a whole number of 1 or more, not '" + value + "'");
+        return 1;
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("usage: Lwjgl3Launcher [--replay FILE.ssr [--speed N]] [--metrics FILE.jsonl] [--bot]");
+        System.exit(2);
+    }
+
+    /** Desktop has cores to spare (enemy loops on a fork-join pool), JMX GC counters and a mapped asset pack. */
+    private static Platform desktopPlatform() {
+        return new Platform(new ForkJoinJobSystem(), new MxBeanGcStats(), assetPack());
+    }
+
+    /**
+     * assets.pak (lwjgl3:packAssets), from -Dswordsurvivor.pack or next to the jar, mapped; null
+     * without one, and the assets are read as files from the classpath or working directory.
+     */
+    private static FileHandleResolver assetPack() {
+        File file = null;
+        String property = System.getProperty("swordsurvivor.pack");
+        if (property != null) {
+            file = new File(property);
+        } else {
+            try {
+                File code = new File(Lwjgl3Launcher.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+                if (code.isFile()) file = new File(code.getParentFile(), "assets.pak"); // running from the jar
+            } catch (Exception e) {
+                // no code location (custom class loader): no pack
+            }
+        }
+        if (file == null || !file.isFile()) return null;
+        try {
+            return AssetPack.open(file);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Couldn't map " + file + " (" + e.getMessage() + "); reading the asset files instead");
+            return null;
+        }
     }
 
     private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new SwordSurvivorGame(), getDefaultConfiguration());
+        return new Lwjgl3Application(new SwordSurvivorGame(desktopPlatform()), getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
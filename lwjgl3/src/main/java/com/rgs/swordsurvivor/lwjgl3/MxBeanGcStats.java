@@ -0,0 +1,31 @@
+package com.rgs.swordsurvivor.lwjgl3;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import com.rgs.swordsurvivor.Platform;
+
+/** GC counters from the JVM's collector beans (looked up once; reading them doesn't allocate). */
+public class MxBeanGcStats implements Platform.GcStats {
+    private final GarbageCollectorMXBean[] beans;
+
+    public MxBeanGcStats() {
+        List<GarbageCollectorMXBean> list = ManagementFactory.getGarbageCollectorMXBeans();
+        beans = list.toArray(new GarbageCollectorMXBean[0]);
+    }
+
+    @Override
+    public long collections() {
+        long n = 0;
+        for (GarbageCollectorMXBean b : beans) n += Math.max(0, b.getCollectionCount());
+        return n;
+    }
+
+    @Override
+    public long collectionMillis() {
+        long t = 0;
+        for (GarbageCollectorMXBean b : beans) t += Math.max(0, b.getCollectionTime());
+        return t;
+    }
+}
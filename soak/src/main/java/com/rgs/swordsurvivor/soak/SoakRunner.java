@@ -0,0 +1,209 @@
+package com.rgs.swordsurvivor.soak;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import com.rgs.swordsurvivor.SwordSurvivorGame;
+import com.rgs.swordsurvivor.metrics.MetricsExporter;
+import com.rgs.swordsurvivor.sim.BotPlayer;
+import com.rgs.swordsurvivor.sim.InputCommand;
+import com.rgs.swordsurvivor.sim.Simulation;
+import com.rgs.swordsurvivor.systems.EntityPools;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays seeded runs with {@link BotPlayer}, headless and as fast as they go, several at once (one
+ * run per thread, each with its own Simulation), and reports how far each got and what the late
+ * waves cost: simulation ticks per second and bytes allocated per tick, wave by wave.
+ *
+ *   ./gradlew soak:run -Psoak.runs=8 -Psoak.waves=60 -Psoak.immortal
+ *
+ * Options: --runs N (8), --threads N (cores), --seed S (1; run k plays seed S+k), --waves W (stop
+ * after wave W, 60), --immortal (refill HP instead of dying, to reach late-game loads; the wave the
+ * bot would have died in is still reported), --metrics DIR (a MetricsExporter file per run, one
+ * line per simulated second).
+ */
+public final class SoakRunner {
+    private static final float STEP = 1f / SwordSurvivorGame.SIM_HZ;
+
+    private SoakRunner() {}
+
+    /** Outcome of one run, with per-wave totals indexed by wave number. */
+    static final class Result {
+        long seed;
+        int wave, kills, diedInWave;
+        long ticks, stepNanos, bytes;
+        boolean tracksAllocation;
+        final long[] waveTicks, waveNanos, waveBytes;
+        final int[] wavePeakEnemies;
+
+        Result(int maxWave) {
+            waveTicks = new long[maxWave + 2];
+            waveNanos = new long[maxWave + 2];
+            waveBytes = new long[maxWave + 2];
+            wavePeakEnemies = new int[maxWave + 2];
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 8, threads = Runtime.getRuntime().availableProcessors(), maxWave = 60;
+        long seed = 1L;
+        boolean immortal = false;
+        File metricsDir = null;
+        for (int i = 0; i < args.length; i++) {
+            String a = args[i];
+            if ("--immortal".equals(a)) immortal = true;
+            else if (i + 1 == args.length) usage("missing value for " + a);
+            else if ("--runs".equals(a)) runs = Integer.parseInt(args[++i]);
+            else if ("--threads".equals(a)) threads = Integer.parseInt(args[++i]);
+            else if ("--seed".equals(a)) seed = Long.parseLong(args[++i]);
+            else if ("--waves".equals(a)) maxWave = Integer.parseInt(args[++i]);
+            else if ("--metrics".equals(a)) metricsDir = new File(args[++i]);
+            else usage("unknown option " + a);
+        }
+        if (metricsDir != null) metricsDir.mkdirs();
+
+        System.out.printf("%d runs on %d threads, up to wave %d%s%n", runs, threads, maxWave,
+            immortal ? ", immortal" : "");
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+        List<Future<Result>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int r = 0; r < runs; r++) {
+            final long runSeed = seed + r;
+            final int waves = maxWave;
+            final boolean keepAlive = immortal;
+            final File metricsFile = metricsDir != null ? new File(metricsDir, "soak-" + runSeed + ".jsonl") : null;
+            futures.add(pool.submit(new Callable<Result>() {
+                @Override public Result call() {
+                    return play(runSeed, waves, keepAlive, metricsFile);
+                }
+            }));
+        }
+        List<Result> results = new ArrayList<>();
+        for (Future<Result> f : futures) results.add(f.get());
+        pool.shutdown();
+        long wall = System.nanoTime() - start;
+
+        report(results, maxWave, wall);
+    }
+
+    /** One whole run on the calling thread. */
+    static Result play(long seed, int maxWave, boolean immortal, File metricsFile) {
+        final Simulation sim = new Simulation(new EntityPools(), seed);
+        final Result result = new Result(maxWave);
+        result.seed = seed;
+        if (immortal) {
+            // Player hits are reported before the death check: topping HP up here keeps the run going
+            sim.setListener(new Simulation.Adapter() {
+                @Override public void onPlayerHit(int damage) {
+                    if (sim.getPlayer().hp > 0) return;
+                    if (result.diedInWave == 0) result.diedInWave = sim.getWave();
+                    sim.getPlayer().hp = sim.getPlayer().maxHp;
+                }
+            });
+        }
+        MetricsExporter exporter = metricsFile != null ? new MetricsExporter(sim.getMetrics(), new FileHandle(metricsFile)) : null;
+
+        BotPlayer bot = new BotPlayer();
+        InputCommand input = new InputCommand();
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+        long thread = Thread.currentThread().getId();
+        result.tracksAllocation = threads != null;
+
+        int wave = sim.getWave();
+        long waveStartBytes = allocated(threads, thread), runStartBytes = waveStartBytes;
+        while (!sim.isGameOver() && wave <= maxWave) {
+            if (sim.isLevelUpPending()) {
+                sim.chooseBoon(bot.pickBoon(sim));
+                continue;
+            }
+            bot.think(sim, input);
+            long t0 = System.nanoTime();
+            sim.step(input, STEP);
+            long t1 = System.nanoTime();
+            if (exporter != null) exporter.update(STEP);
+
+            result.waveTicks[wave]++;
+            result.waveNanos[wave] += t1 - t0;
+            result.wavePeakEnemies[wave] = Math.max(result.wavePeakEnemies[wave], sim.enemies.size);
+            if (sim.getWave() != wave) {
+                long now = allocated(threads, thread);
+                result.waveBytes[wave] = now - waveStartBytes;
+                waveStartBytes = now;
+                wave = sim.getWave();
+            }
+        }
+        if (wave <= maxWave) result.waveBytes[wave] = allocated(threads, thread) - waveStartBytes;
+        if (exporter != null) exporter.close();
+
+        result.wave = sim.getWave();
+        result.kills = sim.getKills();
+        result.ticks = sim.getTicks();
+        result.bytes = allocated(threads, thread) - runStartBytes;
+        for (long n : result.waveNanos) result.stepNanos += n;
+        if (sim.isGameOver()) result.diedInWave = sim.getWave();
+        return result;
+    }
+
+    private static void report(List<Result> results, int maxWave, long wallNanos) {
+        System.out.println();
+        System.out.println("seed        wave  died in  kills    ticks   ticks/s   B/tick");
+        long ticks = 0;
+        boolean allocation = true;
+        for (Result r : results) {
+            System.out.printf("%-10d  %4d  %7s  %5d  %7d  %8.0f  %7s%n", r.seed, r.wave,
+                r.diedInWave > 0 ? "wave " + r.diedInWave : "-", r.kills, r.ticks,
+                r.ticks / (r.stepNanos / 1e9), r.tracksAllocation ? String.valueOf(r.bytes / Math.max(1, r.ticks)) : "n/a");
+            ticks += r.ticks;
+            allocation &= r.tracksAllocation;
+        }
+        System.out.printf("%d ticks in %.1f s wall (%.0f ticks/s over all threads)%n",
+            ticks, wallNanos / 1e9, ticks / (wallNanos / 1e9));
+
+        System.out.println();
+        System.out.println("wave  runs  peak enemies  ticks/s   KB/wave   B/tick");
+        for (int w = 1; w <= maxWave + 1; w++) {
+            int reached = 0, peak = 0;
+            long waveTicks = 0, nanos = 0, bytes = 0;
+            for (Result r : results) {
+                if (r.waveTicks[w] == 0) continue;
+                reached++;
+                peak = Math.max(peak, r.wavePeakEnemies[w]);
+                waveTicks += r.waveTicks[w];
+                nanos += r.waveNanos[w];
+                bytes += r.waveBytes[w];
+            }
+            if (reached == 0) continue;
+            System.out.printf("%4d  %4d  %12d  %7.0f  %8s  %7s%n", w, reached, peak, waveTicks / (nanos / 1e9),
+                allocation ? String.valueOf(bytes / 1024 / reached) : "n/a",
+                allocation ? String.valueOf(bytes / waveTicks) : "n/a");
+        }
+    }
+
+    /** HotSpot's per-thread allocation counter, or null on VMs without one. */
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+        com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean)bean;
+        if (!hotspot.isThreadAllocatedMemorySupported()) return null;
+        hotspot.setThreadAllocatedMemoryEnabled(true);
+        return hotspot;
+    }
+
+    private static long allocated(com.sun.management.ThreadMXBean threads, long thread) {
+        return threads != null ? threads.getThreadAllocatedBytes(thread) : 0L;
+    }
+
+    private static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("usage: SoakRunner [--runs N] [--threads N] [--seed S] [--waves W] [--immortal] [--metrics DIR]");
+        System.exit(2);
+    }
+}